@@ -0,0 +1,136 @@
+package com.study.board.jmh;
+
+import com.study.board.common.id.TimeOrderedIdGenerator;
+import com.study.board.common.sharding.ShardRouter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 insert 처리량 비교 (결과 단위: 행/초)
+ * identity : IDENTITY 전략과 같은 방식 - 행마다 insert 실행 후 generated key 조회
+ * batched  : TimeOrderedIdGenerator로 id를 미리 만들고 JDBC batch (hibernate.jdbc.batch_size와 같은 방식)
+ * <p>
+ * 기본은 임베디드 H2, MySQL로 비교하려면 jdbcUrl에 rewriteBatchedStatements=true 를 붙여서 실행
+ * ex) ./gradlew jmh -PjmhArgs="BoardInsertBenchmark -p jdbcUrl=jdbc:mysql://localhost:3306/board?rewriteBatchedStatements=true -p user=TESTUSER -p password=1234"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardInsertBenchmark {
+    private static final int ROWS = 100;        // 트랜잭션 하나에 넣는 행 수
+
+    @Param("jdbc:h2:mem:insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1")
+    private String jdbcUrl;
+
+    @Param("sa")
+    private String user;
+
+    @Param("")
+    private String password;
+
+    @Param("100")
+    private int batchSize;
+
+    private Connection connection;
+    private TimeOrderedIdGenerator idGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        connection.setAutoCommit(false);
+        idGenerator = TimeOrderedIdGenerator.forNode(0);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS boards_identity");
+            statement.execute("DROP TABLE IF EXISTS boards_assigned");
+            statement.execute("CREATE TABLE boards_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(50) NOT NULL, "
+                    + "content VARCHAR(500) NOT NULL, user_id BIGINT NOT NULL, state VARCHAR(10) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE boards_assigned (id BIGINT PRIMARY KEY, title VARCHAR(50) NOT NULL, "
+                    + "content VARCHAR(500) NOT NULL, user_id BIGINT NOT NULL, state VARCHAR(10) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identity() throws SQLException {
+        long lastId = 0;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO boards_identity (title, content, user_id, state, created_at, updated_at) VALUES (?, ?, ?, 'ACTIVE', ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(statement, 1, ThreadLocalRandom.current().nextLong(1, 100_000), now);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long batched() throws SQLException {
+        long lastId = 0;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO boards_assigned (id, title, content, user_id, state, created_at, updated_at) VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                long userId = ThreadLocalRandom.current().nextLong(1, 100_000);
+                lastId = idGenerator.nextId(ShardRouter.bucketOf(userId));
+                statement.setLong(1, lastId);
+                bind(statement, 2, userId, now);
+                statement.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    private static void bind(PreparedStatement statement, int from, long userId, Timestamp now) throws SQLException {
+        statement.setString(from, "benchmark title");
+        statement.setString(from + 1, "benchmark content");
+        statement.setLong(from + 2, userId);
+        statement.setTimestamp(from + 3, now);
+        statement.setTimestamp(from + 4, now);
+    }
+}
@@ -0,0 +1,113 @@
+package com.study.board.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.study.board.common.cache.BoardFragmentCache;
+import com.study.board.common.response.BaseResponse;
+import com.study.board.entity.User;
+import com.study.board.model.board.GetBoardItemRes;
+import com.study.board.model.board.GetBoardPageRes;
+import com.study.board.model.board.GetBoardRes;
+import com.study.board.model.user.GetUserRes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드 한 페이지 직렬화 비교
+ * jackson    : 지금까지처럼 BaseResponse<List<GetBoardRes>> 전체를 Jackson으로 직렬화
+ * fragments  : BoardFragmentCache에 캐시된 조각을 이어 붙임 (모든 게시글이 캐시에 있는 경우)
+ * normalized : shape=normalized 응답 (게시글에는 writerId, 작성자는 users 맵에 한 번씩)
+ * writers 는 한 페이지에 나오는 서로 다른 작성자 수 (적을수록 정규화의 이득이 큼)
+ * <p>
+ * ex) ./gradlew jmh -PjmhArgs="FeedSerializationBenchmark -p pageSize=20,100 -p writers=5"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedSerializationBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"5"})
+    private int writers;
+
+    private ObjectMapper objectMapper;
+    private BoardFragmentCache fragmentCache;
+    private List<GetBoardRes> page;
+    private GetBoardPageRes normalizedPage;
+    private LocalDateTime version;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 설정과 같게 LocalDateTime을 ISO 문자열로
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        fragmentCache = new BoardFragmentCache(objectMapper, 100_000);
+        version = LocalDateTime.now();
+
+        Map<Long, GetUserRes> users = new LinkedHashMap<>();
+        for (long writerId = 1; writerId <= writers; writerId++) {
+            users.put(writerId, new GetUserRes(User.builder()
+                    .name("user" + writerId)
+                    .age(20)
+                    .email("seed-user-" + writerId + "@board.test")
+                    .build()));
+        }
+
+        page = new ArrayList<>(pageSize);
+        List<GetBoardItemRes> items = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            long writerId = id % writers + 1;
+            String content = "lorem ipsum dolor sit amet ".repeat(10);
+            page.add(GetBoardRes.builder()
+                    .boardId(id)
+                    .writer(users.get(writerId))
+                    .title("title " + id)
+                    .content(content)
+                    .createdAt(version)
+                    .build());
+            items.add(new GetBoardItemRes(id, writerId, "title " + id, content, version));
+        }
+        normalizedPage = new GetBoardPageRes(items, users);
+        fragments();    // 캐시 채우기
+    }
+
+    @Benchmark
+    public byte[] jackson() throws Exception {
+        return objectMapper.writeValueAsBytes(new BaseResponse<>(page));
+    }
+
+    @Benchmark
+    public byte[] fragments() {
+        List<byte[]> items = new ArrayList<>(page.size());
+        for (GetBoardRes board : page) {
+            items.add(fragmentCache.fragment(board.getBoardId(), version, version, () -> board));
+        }
+        return fragmentCache.successResponse(items);
+    }
+
+    @Benchmark
+    public byte[] normalized() {
+        return fragmentCache.jsonResponse(normalizedPage);
+    }
+}
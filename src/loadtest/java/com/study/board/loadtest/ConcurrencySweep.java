@@ -0,0 +1,224 @@
+package com.study.board.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시 클라이언트 수별 처리량 / 응답시간 / 서버 메모리 측정
+ * <p>
+ * 클라이언트 수(levels)마다 그만큼의 클라이언트가 응답을 받자마자 다음 요청을 보내는 방식(closed loop)으로 피드를 요청하고,
+ * 처리량, p50 / p99 / p999, 503 수와 측정 중 서버의 힙 사용량 / 스레드 수 최대값(/actuator/metrics, 로그인한 토큰으로 조회)을 출력함.
+ * 클라이언트는 스레드가 아니라 비동기 요청 체인이라 10k 클라이언트도 드라이버 스레드 수와 상관없음.
+ * <p>
+ * 같은 시더 데이터로 서버를 두 모드로 띄워서 각각 실행한 뒤 표를 비교함
+ * - 플랫폼 스레드: ./gradlew bootRun
+ * - 가상 스레드  : JDK 21 에서 --virtual-threads.enabled=true
+ * 두 모드 모두 --server.tomcat.max-connections=10000 --admission.enabled=false 로 띄워야
+ * 소켓 수 한도 / 요청 수용 제어가 아니라 요청 처리 방식의 차이를 봄. 드라이버 쪽 ulimit -n 도 클라이언트 수보다 커야 함.
+ * <p>
+ * 옵션 (--key=value)
+ * base-url : 대상 서버 (기본 http://localhost:8080)
+ * levels   : 동시 클라이언트 수 목록 (기본 1000,2000,5000,10000)
+ * duration : 단계별 측정 시간, 초 (기본 30)
+ * warmup   : 단계별 측정 전 시간, 초 (기본 5)
+ * users    : 시더가 만든 유저 수 (기본 100000)
+ * password : 시더 비밀번호 (기본 Seed1234!)
+ * tokens   : 미리 로그인해서 클라이언트들이 나눠 쓸 토큰 수 (기본 50)
+ * label    : 결과 표 제목 (ex. platform, virtual)
+ */
+public class ConcurrencySweep {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final List<String> tokens = new ArrayList<>();
+
+    ConcurrencySweep(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "30"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "5"));
+        String label = options.getOrDefault("label", "");
+
+        ConcurrencySweep sweep = new ConcurrencySweep(options.getOrDefault("base-url", "http://localhost:8080"));
+        sweep.login(Integer.parseInt(options.getOrDefault("tokens", "50")),
+                Integer.parseInt(options.getOrDefault("users", "100000")),
+                options.getOrDefault("password", "Seed1234!"));
+
+        System.out.printf("== %s ==%n", label);
+        System.out.printf("%8s %10s %10s %8s %9s %9s %9s %10s %8s%n",
+                "clients", "req/s", "errors", "503", "p50(ms)", "p99(ms)", "p999(ms)", "heap(MB)", "threads");
+        for (String level : options.getOrDefault("levels", "1000,2000,5000,10000").split(",")) {
+            int clients = Integer.parseInt(level.trim());
+            sweep.run(clients, warmupSeconds, null);
+            ServerSampler sampler = new ServerSampler(sweep);
+            sampler.start();
+            Level result = sweep.run(clients, durationSeconds, sampler);
+            sampler.interrupt();
+            sampler.join();
+            result.print(clients, durationSeconds, sampler);
+        }
+    }
+
+    private void login(int count, int users, String password) {
+        for (int i = 0; i < count * 2 && tokens.size() < count; i++) {
+            String email = "seed-user-" + ThreadLocalRandom.current().nextInt(1, users + 1) + "@board.test";
+            String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+            try {
+                HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/user/login"))
+                        .timeout(Duration.ofSeconds(10))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+                JsonNode result = objectMapper.readTree(response.body()).path("result");
+                if (result.hasNonNull("accessToken")) {
+                    tokens.add(result.get("accessToken").asText());
+                }
+            } catch (Exception e) {
+                // 로그인 제한에 걸리면 다음 유저로
+            }
+        }
+        if (tokens.isEmpty()) {
+            throw new IllegalStateException("login failed, is the server seeded?");
+        }
+    }
+
+    // clients 개의 요청 체인을 seconds 동안 돌림
+    private Level run(int clients, long seconds, ServerSampler sampler) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch done = new CountDownLatch(clients);
+        List<Client> chains = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            Client chain = new Client(tokens.get(i % tokens.size()), deadline, done);
+            chains.add(chain);
+            chain.next();
+        }
+        // 마지막 요청의 타임아웃까지 기다림
+        done.await(seconds + 60, TimeUnit.SECONDS);
+
+        Level level = new Level();
+        for (Client chain : chains) {
+            level.recorder.merge(chain.recorder);
+            level.overloaded += chain.overloaded;
+        }
+        return level;
+    }
+
+    private class Client {
+        private final String token;
+        private final long deadline;
+        private final CountDownLatch done;
+        private final LatencyRecorder recorder = new LatencyRecorder(64);
+        private long overloaded;
+
+        Client(String token, long deadline, CountDownLatch done) {
+            this.token = token;
+            this.deadline = deadline;
+            this.done = done;
+        }
+
+        // 이전 응답을 받은 뒤에만 호출되므로 recorder 를 동시에 쓰지 않음
+        void next() {
+            if (System.nanoTime() >= deadline) {
+                done.countDown();
+                return;
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/?page=" + ThreadLocalRandom.current().nextInt(100) + "&size=20"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("X-ACCESS-TOKEN", token)
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                boolean success = error == null && response.statusCode() == 200;
+                if (error == null && response.statusCode() == 503) {
+                    overloaded++;
+                }
+                recorder.record(System.nanoTime() - start, success);
+                next();
+            });
+        }
+    }
+
+    private static class Level {
+        private final LatencyRecorder recorder = new LatencyRecorder();
+        private long overloaded;
+
+        void print(int clients, long seconds, ServerSampler sampler) {
+            recorder.sort();
+            System.out.printf("%8d %10.1f %10d %8d %9.2f %9.2f %9.2f %10.1f %8d%n",
+                    clients,
+                    recorder.count() / (double) seconds,
+                    recorder.errors(),
+                    overloaded,
+                    recorder.percentileMillis(50),
+                    recorder.percentileMillis(99),
+                    recorder.percentileMillis(99.9),
+                    sampler.maxHeapBytes.get() / (1024.0 * 1024.0),
+                    sampler.maxThreads.get());
+        }
+    }
+
+    // 측정 중 1초마다 서버의 힙 사용량 / 살아 있는 스레드 수를 읽어 최대값을 남김
+    private static class ServerSampler extends Thread {
+        private final ConcurrencySweep sweep;
+        private final AtomicLong maxHeapBytes = new AtomicLong();
+        private final AtomicLong maxThreads = new AtomicLong();
+
+        ServerSampler(ConcurrencySweep sweep) {
+            super("server-sampler");
+            setDaemon(true);
+            this.sweep = sweep;
+        }
+
+        @Override
+        public void run() {
+            while (!isInterrupted()) {
+                try {
+                    maxHeapBytes.accumulateAndGet((long) sweep.metric("jvm.memory.used?tag=area:heap"), Math::max);
+                    maxThreads.accumulateAndGet((long) sweep.metric("jvm.threads.live"), Math::max);
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    return;
+                } catch (Exception e) {
+                    // 과부하로 응답이 늦으면 이번 샘플은 건너뜀
+                }
+            }
+        }
+    }
+
+    private double metric(String name) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name))
+                .header("X-ACCESS-TOKEN", tokens.get(0))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).path("measurements").path(0).path("value").asDouble();
+    }
+}
@@ -0,0 +1,62 @@
+package com.study.board.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 한 워커 스레드 전용 응답시간 기록기 (스레드 간 공유하지 않으므로 동기화 없음)
+ * 측정이 끝나면 merge()로 합친 뒤 백분위수를 계산함
+ */
+public class LatencyRecorder {
+    private long[] samples;     // 나노초 단위
+    private int size;
+    private long errors;
+
+    public LatencyRecorder() {
+        this(1024);
+    }
+
+    // 기록기를 많이 만들 때(ConcurrencySweep 의 클라이언트마다) 작게 시작
+    public LatencyRecorder(int initialCapacity) {
+        this.samples = new long[Math.max(initialCapacity, 1)];
+    }
+
+    public void record(long nanos, boolean success) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (size + other.size > samples.length) {
+            samples = Arrays.copyOf(samples, size + other.size);
+        }
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    public int count() {
+        return size;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    // 정렬 후 호출해야 함
+    public double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return samples[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+    }
+
+    public void sort() {
+        Arrays.sort(samples, 0, size);
+    }
+}
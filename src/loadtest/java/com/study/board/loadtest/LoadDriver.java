@@ -0,0 +1,278 @@
+package com.study.board.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 부하 드라이버
+ * <p>
+ * 시더(DataSeeder)로 채운 서버에 로그인 / 피드 페이징 / 단건 조회 / 글쓰기를 섞어서 요청하고
+ * 엔드포인트별 처리량과 p50 / p99 / p999 응답시간을 출력함.
+ * 게시글 id는 연속이 아니므로 단건 조회는 피드 응답에서 본 id 중에서 고름.
+ * <p>
+ * 옵션 (--key=value)
+ * base-url  : 대상 서버 (기본 http://localhost:8080)
+ * threads   : 동시 워커 수 (기본 32)
+ * duration  : 측정 시간, 초 (기본 60)
+ * warmup    : 측정 전 워밍업 시간, 초 (기본 10)
+ * users     : 시더가 만든 유저 수 (기본 100000)
+ * password  : 시더 비밀번호 (기본 Seed1234!)
+ * mix       : 요청 비율 (기본 login=5,feed=60,read=25,write=10)
+ * wait-ready: true 이면 /actuator/health/readiness 가 200 이 될 때까지 기다린 뒤 시작 (기본 false)
+ *             기동 직후 요청 응답시간을 비교할 때는 warmup=0 과 함께 사용
+ */
+public class LoadDriver {
+    enum Endpoint {
+        LOGIN, FEED, READ, WRITE
+    }
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final int users;
+    private final AtomicLongArray knownIds = new AtomicLongArray(10_000);     // 피드에서 본 게시글 id (링 버퍼, 스레드 간 공유)
+    private final AtomicInteger knownCount = new AtomicInteger();
+    private final String password;
+    private final Map<Endpoint, Integer> mix;
+    private final int totalWeight;
+    private final HttpClient client;
+
+    LoadDriver(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        this.users = Integer.parseInt(options.getOrDefault("users", "100000"));
+        this.password = options.getOrDefault("password", "Seed1234!");
+        this.mix = parseMix(options.getOrDefault("mix", "login=5,feed=60,read=25,write=10"));
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        int threads = Integer.parseInt(options.getOrDefault("threads", "32"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "10"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "60"));
+
+        LoadDriver driver = new LoadDriver(options);
+
+        if (Boolean.parseBoolean(options.getOrDefault("wait-ready", "false"))) {
+            long waited = driver.awaitReady();
+            System.out.printf("server ready after %d ms%n", waited);
+        }
+
+        System.out.printf("warm-up %ds ...%n", warmupSeconds);
+        driver.run(threads, warmupSeconds);
+
+        System.out.printf("measuring %ds with %d threads ...%n", durationSeconds, threads);
+        Map<Endpoint, LatencyRecorder> result = driver.run(threads, durationSeconds);
+        print(result, durationSeconds);
+    }
+
+    // readiness(워밍업 포함)가 UP 이 될 때까지 대기, 기다린 시간(ms) 반환
+    long awaitReady() throws InterruptedException {
+        long start = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        while (true) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                }
+            } catch (Exception e) {
+                // 아직 기동 중
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    Map<Endpoint, LatencyRecorder> run(int threads, long seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(deadline);
+            workers.add(worker);
+            worker.start();
+        }
+
+        Map<Endpoint, LatencyRecorder> merged = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            merged.put(endpoint, new LatencyRecorder());
+        }
+        for (Worker worker : workers) {
+            worker.join();
+            worker.recorders.forEach((endpoint, recorder) -> merged.get(endpoint).merge(recorder));
+        }
+        return merged;
+    }
+
+    private static void print(Map<Endpoint, LatencyRecorder> result, long seconds) {
+        System.out.printf("%-6s %10s %8s %10s %9s %9s %9s%n", "", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)");
+        long total = 0;
+        for (Map.Entry<Endpoint, LatencyRecorder> entry : result.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            recorder.sort();
+            total += recorder.count();
+            System.out.printf("%-6s %10d %8d %10.1f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(),
+                    recorder.count(),
+                    recorder.errors(),
+                    recorder.count() / (double) seconds,
+                    recorder.percentileMillis(50),
+                    recorder.percentileMillis(99),
+                    recorder.percentileMillis(99.9));
+        }
+        System.out.printf("TOTAL  %10d %8s %10.1f%n", total, "", total / (double) seconds);
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : mix.split(",")) {
+            String[] kv = part.split("=");
+            weights.put(Endpoint.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+        }
+        return weights;
+    }
+
+    private class Worker extends Thread {
+        private final long deadline;
+        private final Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        private String accessToken;
+
+        Worker(long deadline) {
+            this.deadline = deadline;
+            for (Endpoint endpoint : Endpoint.values()) {
+                recorders.put(endpoint, new LatencyRecorder());
+            }
+        }
+
+        @Override
+        public void run() {
+            accessToken = login();
+            while (System.nanoTime() < deadline) {
+                Endpoint endpoint = next();
+                long start = System.nanoTime();
+                boolean success;
+                try {
+                    success = call(endpoint);
+                } catch (Exception e) {
+                    success = false;
+                }
+                recorders.get(endpoint).record(System.nanoTime() - start, success);
+            }
+        }
+
+        private Endpoint next() {
+            int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+            for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    return entry.getKey();
+                }
+            }
+            return Endpoint.FEED;
+        }
+
+        private boolean call(Endpoint endpoint) throws Exception {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            switch (endpoint) {
+                case LOGIN:
+                    String token = login();
+                    if (token != null) {
+                        accessToken = token;
+                    }
+                    return token != null;
+                case FEED:
+                    return feed(random.nextInt(100));
+                case READ:
+                    int count = knownCount.get();
+                    int known = count < 0 ? knownIds.length() : Math.min(count, knownIds.length());     // 음수면 한 바퀴 넘게 돈 것
+                    if (known == 0) {
+                        return feed(0);
+                    }
+                    return isSuccess(send(get("/board?boardId=" + knownIds.get(random.nextInt(known)))));
+                case WRITE:
+                    String body = "{\"title\":\"load test\",\"content\":\"load test content " + random.nextInt() + "\"}";
+                    return isSuccess(send(authorized("/board/add")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build()));
+                default:
+                    return false;
+            }
+        }
+
+        private boolean feed(int page) throws Exception {
+            HttpResponse<String> response = send(get("/?page=" + page + "&size=20"));
+            if (!isSuccess(response)) {
+                return false;
+            }
+            for (JsonNode board : objectMapper.readTree(response.body()).path("result")) {
+                if (board.hasNonNull("boardId")) {
+                    knownIds.set(Math.floorMod(knownCount.getAndIncrement(), knownIds.length()), board.get("boardId").asLong());
+                }
+            }
+            return true;
+        }
+
+        private String login() {
+            String email = "seed-user-" + ThreadLocalRandom.current().nextInt(1, users + 1) + "@board.test";
+            String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+            try {
+                HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/user/login"))
+                        .timeout(Duration.ofSeconds(10))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build());
+                JsonNode result = objectMapper.readTree(response.body()).path("result");
+                return result.hasNonNull("accessToken") ? result.get("accessToken").asText() : null;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        private HttpRequest get(String path) {
+            return authorized(path).GET().build();
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(10));
+            if (accessToken != null) {
+                builder.header("X-ACCESS-TOKEN", accessToken);
+            }
+            return builder;
+        }
+
+        private HttpResponse<String> send(HttpRequest request) throws Exception {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+
+        private boolean isSuccess(HttpResponse<String> response) throws Exception {
+            return response.statusCode() == 200
+                    && objectMapper.readTree(response.body()).path("isSuccess").asBoolean(false);
+        }
+    }
+}
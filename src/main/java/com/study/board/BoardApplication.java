@@ -2,12 +2,17 @@ package com.study.board;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication
 public class BoardApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(BoardApplication.class, args);
+		SpringApplication application = new SpringApplication(BoardApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));	// 기동 단계별 소요시간 기록 (StartupTimeline)
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,76 @@
+package com.study.board.common.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 경로 그룹(AUTH / FEED / WRITES)별 AIMD 동시 처리 한도
+ * DB가 느려지면 그룹별 한도가 줄어들고, 한도를 넘는 요청은 AdmissionControlFilter에서 바로 503으로 거절됨
+ * 메트릭: admission.limit, admission.inflight, admission.rejected (tag: group)
+ */
+@Component
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionController {
+    public enum RouteGroup {
+        AUTH, FEED, WRITES
+    }
+
+    private final boolean enabled;
+    private final Map<RouteGroup, AimdLimiter> limiters = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, Counter> rejected = new EnumMap<>(RouteGroup.class);
+
+    public AdmissionController(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        limiters.put(RouteGroup.AUTH, limiter(properties.getAuth(), properties.getBackoffRatio()));
+        limiters.put(RouteGroup.FEED, limiter(properties.getFeed(), properties.getBackoffRatio()));
+        limiters.put(RouteGroup.WRITES, limiter(properties.getWrites(), properties.getBackoffRatio()));
+
+        limiters.forEach((group, limiter) -> {
+            String tag = group.name().toLowerCase();
+            Gauge.builder("admission.limit", limiter, AimdLimiter::getLimit).tag("group", tag).register(meterRegistry);
+            Gauge.builder("admission.inflight", limiter, AimdLimiter::getInFlight).tag("group", tag).register(meterRegistry);
+            rejected.put(group, Counter.builder("admission.rejected").tag("group", tag).register(meterRegistry));
+        });
+    }
+
+    /**
+     * 제어 대상이 아닌 요청은 null
+     */
+    public RouteGroup classify(HttpServletRequest request) {
+        if (!enabled) {
+            return null;
+        }
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/user/login") || uri.startsWith("/user/session-login") || uri.equals("/user/signup")) {
+            return RouteGroup.AUTH;
+        }
+        if (uri.equals("/") || uri.startsWith("/board")) {
+            return "GET".equals(request.getMethod()) ? RouteGroup.FEED : RouteGroup.WRITES;
+        }
+        return null;
+    }
+
+    public boolean tryAcquire(RouteGroup group) {
+        if (limiters.get(group).tryAcquire()) {
+            return true;
+        }
+        rejected.get(group).increment();
+        return false;
+    }
+
+    public void release(RouteGroup group, long latencyNanos, boolean dropped) {
+        limiters.get(group).release(latencyNanos, dropped);
+    }
+
+    private static AimdLimiter limiter(AdmissionProperties.Group group, double backoffRatio) {
+        return new AimdLimiter(group.getInitialLimit(), group.getMinLimit(), group.getMaxLimit(),
+                group.getLatencyThreshold().toNanos(), backoffRatio);
+    }
+}
@@ -0,0 +1,32 @@
+package com.study.board.common.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 요청 수용 제어 설정 (admission.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    private double backoffRatio = 0.9;
+    private Group auth = new Group();
+    private Group feed = new Group();
+    private Group writes = new Group();
+
+    @Getter
+    @Setter
+    public static class Group {
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+
+        // 이보다 오래 걸린 응답은 과부하 신호로 봄
+        private Duration latencyThreshold = Duration.ofMillis(500);
+    }
+}
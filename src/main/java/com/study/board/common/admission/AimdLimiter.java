@@ -0,0 +1,88 @@
+package com.study.board.common.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD 동시 처리 한도
+ * <p>
+ * 응답이 latencyThreshold 안에 끝나고 한도 근처까지 쓰이고 있으면 한도를 조금씩 올리고 (요청 limit 개마다 +1),
+ * 느려지거나 서버 오류가 나면 backoffRatio 만큼 곱해서 줄임. 줄이는 건 latencyThreshold 에 한 번만
+ * (이미 느려진 상태에서 끝나는 요청들 때문에 한꺼번에 최소값까지 떨어지지 않도록).
+ * 한도와 처리 중 개수는 모두 CAS로만 갱신하므로 락이 없음.
+ */
+public class AimdLimiter {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;         // double 한도를 long 비트로 저장
+    private final AtomicLong lastDecrease;
+    private final double minLimit;
+    private final double maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final LongSupplier nanoClock;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyThresholdNanos, backoffRatio, System::nanoTime);
+    }
+
+    // 테스트에서 시간을 직접 움직이기 위한 생성자
+    AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.lastDecrease = new AtomicLong(nanoClock.getAsLong());
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire() 가 true 였던 요청이 끝날 때 호출
+     * @param dropped 서버 오류(5xx, 예외)로 끝났으면 true
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            long now = nanoClock.getAsLong();
+            long last = lastDecrease.get();
+            if (now - last >= latencyThresholdNanos && lastDecrease.compareAndSet(last, now)) {
+                update(limit -> Math.max(minLimit, limit * backoffRatio));
+            }
+        } else if (current * 2 >= getLimit()) {
+            // 한도의 절반 이상을 쓰고 있을 때만 올림 (한가할 때 한도만 커지는 것을 막음)
+            update(limit -> Math.min(maxLimit, limit + 1.0 / limit));
+        }
+    }
+
+    public double getLimit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(DoubleUnaryOperator operator) {
+        while (true) {
+            long bits = limitBits.get();
+            long next = Double.doubleToLongBits(operator.applyAsDouble(Double.longBitsToDouble(bits)));
+            if (limitBits.compareAndSet(bits, next)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.study.board.common.archive;
+
+import com.study.board.common.sharding.ShardedBoardStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * boards -> boards_archive 이동 작업
+ * <p>
+ * 삭제(INACTIVE)된 게시글과 retention 보다 오래된 게시글을 batch-size 개씩 옮겨서 boards 와 그 인덱스를 작게 유지함.
+ * batch 하나가 트랜잭션 하나 (대상 행을 잠그고 INSERT ... SELECT 후 DELETE) 이고,
+ * batch 사이에 pause 만큼 쉬며 한 번 실행에 max-batches 개까지만 옮김 (남은 것은 다음 실행에서).
+ * 옮긴 게시글은 피드에는 나오지 않고 단건/다건 조회에서 아카이브를 한 번 더 찾아서 읽음 (BoardService).
+ * 샤드 모드에서는 샤드마다 같은 샤드의 boards_archive 로 옮김.
+ * <p>
+ * 메트릭: board.archive.moved(옮긴 게시글 수)
+ */
+@Slf4j
+@Component
+public class BoardArchiver {
+    private static final String SELECT_INACTIVE =
+            "SELECT id FROM boards WHERE state = 'INACTIVE' ORDER BY created_at LIMIT ?";
+    private static final String SELECT_EXPIRED =
+            "SELECT id FROM boards WHERE state = 'ACTIVE' AND created_at < ? ORDER BY created_at LIMIT ?";
+    // 고른 뒤에 바뀌었을 수 있으므로 옮기기 전에 행을 잠그고 다시 읽음
+    private static final String LOCK_ROWS = "SELECT id FROM boards WHERE id IN (:ids) FOR UPDATE";
+    private static final String COPY_ROWS =
+            "INSERT INTO boards_archive (id, title, content, user_id, state, created_at, updated_at, archived_at)"
+                    + " SELECT id, title, content, user_id, state, created_at, updated_at, :now FROM boards WHERE id IN (:ids)";
+    private static final String DELETE_ROWS = "DELETE FROM boards WHERE id IN (:ids)";
+
+    private final List<Target> targets = new ArrayList<>();
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong moved = new AtomicLong();
+
+    public BoardArchiver(JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         Optional<ShardedBoardStore> shardedBoardStore,
+                         MeterRegistry meterRegistry,
+                         @Value("${board.archive.enabled:true}") boolean enabled,
+                         @Value("${board.archive.retention:365d}") Duration retention,
+                         @Value("${board.archive.batch-size:500}") int batchSize,
+                         @Value("${board.archive.max-batches:200}") int maxBatches,
+                         @Value("${board.archive.pause:200ms}") Duration pause) {
+        if (shardedBoardStore.isPresent()) {
+            List<DataSource> dataSources = shardedBoardStore.get().getDataSources();
+            for (int i = 0; i < dataSources.size(); i++) {
+                targets.add(new Target("shard-" + i, new JdbcTemplate(dataSources.get(i)),
+                        new TransactionTemplate(new DataSourceTransactionManager(dataSources.get(i)))));
+            }
+        } else {
+            targets.add(new Target("primary", jdbcTemplate, transactionTemplate));
+        }
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMillis = pause.toMillis();
+
+        FunctionCounter.builder("board.archive.moved", moved, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${board.archive.cron:0 0 4 * * *}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    /**
+     * 옮긴 게시글 수 반환 (이미 실행 중이면 -1)
+     */
+    public long archive() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+        long start = System.currentTimeMillis();
+        long total = 0;
+        try {
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+            for (Target target : targets) {
+                long count = archive(target, cutoff);
+                total += count;
+                log.info("ARCHIVE boards {} : {} rows moved", target.name, count);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("ARCHIVE boards failed after {} rows : {}", total, e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        log.info("ARCHIVE boards : {} rows moved ({} ms)", total, System.currentTimeMillis() - start);
+        return total;
+    }
+
+    // 삭제된 게시글을 먼저 옮기고, 남은 batch 수만큼 오래된 게시글을 옮김
+    private long archive(Target target, Timestamp cutoff) throws InterruptedException {
+        long count = 0;
+        int batches = 0;
+        boolean inactiveDone = false;
+        while (batches < maxBatches) {
+            List<Long> ids = inactiveDone
+                    ? target.jdbc.queryForList(SELECT_EXPIRED, Long.class, cutoff, batchSize)
+                    : target.jdbc.queryForList(SELECT_INACTIVE, Long.class, batchSize);
+            if (ids.isEmpty()) {
+                if (inactiveDone) {
+                    break;
+                }
+                inactiveDone = true;
+                continue;
+            }
+
+            int batchMoved = moveBatch(target, ids);
+            count += batchMoved;
+            moved.addAndGet(batchMoved);
+            batches++;
+
+            if (pauseMillis > 0) {
+                Thread.sleep(pauseMillis);
+            }
+        }
+        return count;
+    }
+
+    private int moveBatch(Target target, List<Long> candidates) {
+        Integer count = target.transactionTemplate.execute(status -> {
+            NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(target.jdbc);
+            List<Long> ids = named.queryForList(LOCK_ROWS, Map.of("ids", candidates), Long.class);
+            if (ids.isEmpty()) {
+                return 0;       // 그 사이에 다른 노드가 옮김
+            }
+            named.update(COPY_ROWS, Map.of("ids", ids, "now", Timestamp.valueOf(LocalDateTime.now())));
+            return named.update(DELETE_ROWS, Map.of("ids", ids));
+        });
+        return count != null ? count : 0;
+    }
+
+    private static final class Target {
+        private final String name;
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate transactionTemplate;
+
+        private Target(String name, JdbcTemplate jdbc, TransactionTemplate transactionTemplate) {
+            this.name = name;
+            this.jdbc = jdbc;
+            this.transactionTemplate = transactionTemplate;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.study.board.common.audit;
+
+import lombok.Getter;
+
+/**
+ * 감사/접근 로그 이벤트 (불변)
+ * 요청 스레드에서는 객체만 만들고, 직렬화와 파일 쓰기는 AuditLog의 writer 스레드에서 처리
+ */
+@Getter
+public class AuditEvent {
+    private final long timestamp;
+    private final Type type;
+    private final Long userId;
+    private final String target;
+
+    public enum Type {
+        ACCESS,
+        LOGIN_SUCCESS,
+        LOGIN_FAILURE,
+        SESSION_LOGIN,
+        BOARD_CREATED,
+        BOARD_UPDATED,
+        BOARD_DELETED
+    }
+
+    public AuditEvent(Type type, Long userId, String target) {
+        this.timestamp = System.currentTimeMillis();
+        this.type = type;
+        this.userId = userId;
+        this.target = target;
+    }
+}
@@ -0,0 +1,214 @@
+package com.study.board.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사/접근 로그 파이프라인
+ * <p>
+ * 요청 스레드는 링 버퍼에 이벤트를 넣기만 하고, 백그라운드 writer 스레드 하나가 batch-size 만큼씩 모아서
+ * JSON 한 줄씩 파일에 쓰고 배치마다 flush 함. 로그 I/O가 요청 응답시간에 포함되지 않음.
+ * <p>
+ * 버퍼가 가득 찼을 때 (audit.overflow-policy)
+ * DROP  : 이벤트를 버리고 dropped 카운터 증가 (기본)
+ * BLOCK : block-timeout-ms 동안 빈 칸을 기다리고, 그래도 가득 차 있으면 버림 (쓰기 실패 중에는 기다리지 않고 버림)
+ * <p>
+ * 쓰기가 실패하면 (디스크 가득 참, 로그 로테이션 등) writer 스레드는 끝나지 않고 파일을 다시 열어서
+ * 실패한 배치부터 다시 씀 (100ms 부터 두 배씩, 최대 5초 간격). 실패 직전까지 쓴 줄이 다시 쓰일 수 있음 (at-least-once).
+ * <p>
+ * 메트릭: audit.events.dropped, audit.events.written, audit.write.failures, audit.writer.healthy(1 / 0)
+ */
+@Slf4j
+@Component
+public class AuditLog {
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long RETRY_MIN_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long RETRY_MAX_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final AuditRingBuffer buffer;
+    private final Path file;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile boolean healthy = true;
+    private Thread writer;
+
+    public AuditLog(@Value("${audit.file:logs/audit.log}") String file,
+                    @Value("${audit.capacity:8192}") int capacity,
+                    @Value("${audit.batch-size:256}") int batchSize,
+                    @Value("${audit.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                    @Value("${audit.block-timeout-ms:5}") long blockTimeoutMillis,
+                    MeterRegistry meterRegistry) {
+        this.buffer = new AuditRingBuffer(capacity);
+        this.file = Paths.get(file);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+
+        FunctionCounter.builder("audit.events.dropped", dropped, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("audit.events.written", written, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("audit.write.failures", failures, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("audit.writer.healthy", this, audit -> audit.healthy ? 1 : 0).register(meterRegistry);
+    }
+
+    public void publish(AuditEvent.Type type, Long userId, String target) {
+        AuditEvent event = new AuditEvent(type, userId, target);
+        if (buffer.offer(event)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK && healthy) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(50_000);
+                if (buffer.offer(event)) {
+                    return;
+                }
+            }
+        }
+        dropped.incrementAndGet();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 종료 시 남은 이벤트까지 쓰고 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    // 쓰기에 실패하면 파일을 다시 열고 실패한 배치(pending)부터 다시 씀
+    private void drainLoop() {
+        List<AuditEvent> pending = new ArrayList<>(batchSize);
+        long backoffNanos = RETRY_MIN_NANOS;
+        while (true) {
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                while (running) {
+                    if (writeBatch(out, pending) == 0) {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                    backoffNanos = RETRY_MIN_NANOS;
+                }
+                while (writeBatch(out, pending) > 0) {
+                    // 남은 이벤트 처리
+                }
+                return;
+            } catch (IOException e) {
+                healthy = false;
+                failures.incrementAndGet();
+                if (!running) {
+                    long lost = pending.size() + discardBuffered();
+                    dropped.addAndGet(lost);
+                    log.error("AUDIT WRITER STOPPED, {} events dropped : {}", lost, e.getMessage());
+                    return;
+                }
+                log.error("AUDIT WRITE FAILED, retry in {} ms : {}", TimeUnit.NANOSECONDS.toMillis(backoffNanos), e.getMessage());
+                LockSupport.parkNanos(backoffNanos);
+                backoffNanos = Math.min(backoffNanos * 2, RETRY_MAX_NANOS);
+            }
+        }
+    }
+
+    // pending 이 비어 있으면 버퍼에서 batch-size 만큼 채우고, 파일에 쓴 뒤에만 비움
+    private int writeBatch(BufferedWriter out, List<AuditEvent> pending) throws IOException {
+        if (pending.isEmpty()) {
+            AuditEvent event;
+            while (pending.size() < batchSize && (event = buffer.poll()) != null) {
+                pending.add(event);
+            }
+        }
+        int count = pending.size();
+        if (count == 0) {
+            return 0;
+        }
+        for (AuditEvent event : pending) {
+            out.write(objectMapper.writeValueAsString(toMap(event)));
+            out.newLine();
+        }
+        out.flush();
+        pending.clear();
+        written.addAndGet(count);
+        if (!healthy) {
+            healthy = true;
+            log.info("AUDIT WRITER RECOVERED");
+        }
+        return count;
+    }
+
+    private long discardBuffered() {
+        long count = 0;
+        while (buffer.poll() != null) {
+            count++;
+        }
+        return count;
+    }
+
+    private static Map<String, Object> toMap(AuditEvent event) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("ts", event.getTimestamp());
+        line.put("type", event.getType());
+        line.put("userId", event.getUserId());
+        line.put("target", event.getTarget());
+        return line;
+    }
+}
@@ -0,0 +1,67 @@
+package com.study.board.common.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다수 생산자 / 단일 소비자)
+ * <p>
+ * 슬롯마다 시퀀스 번호를 두고, 생산자는 tail을 CAS로 한 칸 예약한 뒤 값을 쓰고 시퀀스를 올려서 공개함.
+ * 소비자는 한 스레드(AuditLog writer)뿐이므로 head는 일반 필드로 관리함.
+ * 가득 차면 offer()는 기다리지 않고 false를 반환함
+ */
+class AuditRingBuffer {
+    private final AtomicReferenceArray<AuditEvent> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;      // 소비자 스레드 전용
+
+    AuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);     // 2의 거듭제곱으로 올림
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(AuditEvent event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, event);
+                    sequences.set(index, position + 1);      // 소비자에게 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;       // 가득 참
+            } else {
+                position = tail.get();      // 다른 생산자가 먼저 예약함
+            }
+        }
+    }
+
+    // 소비자 스레드에서만 호출
+    AuditEvent poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;        // 비었거나 아직 쓰는 중
+        }
+        AuditEvent event = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + mask + 1);      // 다음 바퀴의 생산자에게 슬롯 반환
+        head++;
+        return event;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
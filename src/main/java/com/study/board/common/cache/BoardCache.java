@@ -0,0 +1,55 @@
+package com.study.board.common.cache;
+
+import com.study.board.entity.OutboxEvent;
+import com.study.board.model.board.GetBoardRes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 id -> GetBoardRes 캐시 (단건 조회 / 다건 조회 결과)
+ * 이 노드에서 수정/삭제하면 바로 지우고, 다른 노드의 변경은 outbox 이벤트로 지움
+ */
+@Component
+public class BoardCache implements CacheInvalidationListener {
+    private final ConcurrentHashMap<Long, GetBoardRes> boards = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public BoardCache(@Value("${board.cache.max-entries:50000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public GetBoardRes get(Long boardId) {
+        return boards.get(boardId);
+    }
+
+    public void put(GetBoardRes board) {
+        boards.put(board.getBoardId(), board);
+        if (boards.size() > maxEntries) {
+            evictSome();
+        }
+    }
+
+    public void evict(Long boardId) {
+        boards.remove(boardId);
+    }
+
+    @Override
+    public void invalidate(OutboxEvent event) {
+        if (event.getEntityType() == OutboxEvent.EntityType.BOARD) {
+            boards.remove(event.getEntityId());
+        }
+    }
+
+    // BoardFragmentCache와 같이 임의의 10%를 지움
+    private void evictSome() {
+        int toRemove = boards.size() - maxEntries + maxEntries / 10;
+        Iterator<Long> iterator = boards.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
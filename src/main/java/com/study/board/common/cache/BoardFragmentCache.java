@@ -0,0 +1,141 @@
+package com.study.board.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.board.common.response.BaseResponse;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.entity.OutboxEvent;
+import com.study.board.model.board.GetBoardRes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 하나의 GetBoardRes JSON 조각(byte[]) 캐시
+ * <p>
+ * 게시글 / 작성자의 updateAt을 버전으로 같이 저장해서, 버전이 같으면 다시 직렬화하지 않음.
+ * 목록 응답은 BaseResponse 앞부분 + 조각들 + 닫는 괄호를 이어 붙여서 만듦 (Jackson을 목록 전체에 돌리지 않음).
+ * 다른 노드에서 수정/삭제된 게시글은 outbox 이벤트로 지움 (버전 비교만으로도 맞지만 메모리를 빨리 비우기 위해).
+ */
+@Component
+public class BoardFragmentCache implements CacheInvalidationListener {
+    private static final byte[] RESULT_OPEN = ",\"result\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESULT_CLOSE = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, Fragment> fragments = new ConcurrentHashMap<>();
+    private final byte[] successPrefix;     // {"isSuccess":true,"code":200,"message":"..."  (닫는 괄호 없음)
+
+    public BoardFragmentCache(ObjectMapper objectMapper,
+                              @Value("${board.fragment-cache.max-entries:100000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        // result가 JsonPropertyOrder의 마지막이고 null이면 빠지므로, 성공 응답에서 마지막 '}'만 떼면 앞부분이 됨
+        byte[] envelope = serialize(new BaseResponse<>(BaseResponseStatus.SUCCESS));
+        this.successPrefix = Arrays.copyOf(envelope, envelope.length - 1);
+    }
+
+    /**
+     * 캐시된 조각을 반환하고, 없거나 버전이 다르면 source로 만든 GetBoardRes를 직렬화해서 저장
+     */
+    public byte[] fragment(Long boardId, LocalDateTime boardVersion, LocalDateTime writerVersion, Supplier<GetBoardRes> source) {
+        Fragment cached = fragments.get(boardId);
+        if (cached != null && cached.matches(boardVersion, writerVersion)) {
+            return cached.json;
+        }
+        byte[] json = serialize(source.get());
+        fragments.put(boardId, new Fragment(boardVersion, writerVersion, json));
+        if (fragments.size() > maxEntries) {
+            evictSome();
+        }
+        return json;
+    }
+
+    /**
+     * 조각들을 BaseResponse 성공 응답의 result 배열로 조립
+     */
+    public byte[] successResponse(List<byte[]> items) {
+        int size = successPrefix.length + RESULT_OPEN.length + RESULT_CLOSE.length + Math.max(0, items.size() - 1);
+        for (byte[] item : items) {
+            size += item.length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.writeBytes(successPrefix);
+        out.writeBytes(RESULT_OPEN);
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(items.get(i));
+        }
+        out.writeBytes(RESULT_CLOSE);
+        return out.toByteArray();
+    }
+
+    /**
+     * 캐시하지 않는 응답 (필드를 골라서 조회한 목록 등)
+     */
+    public byte[] jsonResponse(Object result) {
+        return serialize(new BaseResponse<>(result));
+    }
+
+    public byte[] errorResponse(BaseResponseStatus status) {
+        return serialize(new BaseResponse<>(status));
+    }
+
+    public int size() {
+        return fragments.size();
+    }
+
+    @Override
+    public void invalidate(OutboxEvent event) {
+        if (event.getEntityType() == OutboxEvent.EntityType.BOARD) {
+            fragments.remove(event.getEntityId());
+        }
+    }
+
+    // 정확한 LRU 대신 임의의 10%를 지움 (조회 경로에 잠금이나 순서 관리를 넣지 않기 위해)
+    private void evictSome() {
+        int toRemove = fragments.size() - maxEntries + maxEntries / 10;
+        Iterator<Long> iterator = fragments.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Fragment {
+        private final LocalDateTime boardVersion;
+        private final LocalDateTime writerVersion;
+        private final byte[] json;
+
+        Fragment(LocalDateTime boardVersion, LocalDateTime writerVersion, byte[] json) {
+            this.boardVersion = boardVersion;
+            this.writerVersion = writerVersion;
+            this.json = json;
+        }
+
+        boolean matches(LocalDateTime boardVersion, LocalDateTime writerVersion) {
+            return Objects.equals(this.boardVersion, boardVersion) && Objects.equals(this.writerVersion, writerVersion);
+        }
+    }
+}
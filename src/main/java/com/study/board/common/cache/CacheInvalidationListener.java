@@ -0,0 +1,11 @@
+package com.study.board.common.cache;
+
+import com.study.board.entity.OutboxEvent;
+
+/**
+ * 로컬 캐시를 가진 컴포넌트가 구현하면 CacheInvalidationPoller가 outbox 이벤트마다 호출함 (이 노드에서 일어난 변경 포함)
+ * 같은 이벤트가 다시 전달될 수 있으므로 여러 번 호출되어도 결과가 같아야 함
+ */
+public interface CacheInvalidationListener {
+    void invalidate(OutboxEvent event);
+}
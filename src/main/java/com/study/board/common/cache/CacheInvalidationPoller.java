@@ -0,0 +1,175 @@
+package com.study.board.common.cache;
+
+import com.study.board.entity.OutboxEvent;
+import com.study.board.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox를 seq 순서대로 조금씩 읽어서 이 노드의 로컬 캐시를 비움
+ * <p>
+ * seq(AUTO_INCREMENT)는 커밋 순서와 다를 수 있으므로, 중간에 빈 번호가 있으면 그 앞까지만 위치를 옮기고
+ * 다음 폴링에서 다시 읽음 (무효화는 여러 번 해도 같으므로 재처리해도 안전).
+ * 빈 번호 뒤의 이벤트가 gap-timeout 보다 오래됐으면 위치는 건너뛰지만, 건너뛴 번호는 retention 동안 기억해 두고
+ * 매 폴링에서 다시 찾음. 번호를 받은 뒤 늦게 커밋된 트랜잭션(락 대기, 긴 group commit 배치)의 무효화도 놓치지 않고,
+ * retention 이 지나도록 안 나타난 번호는 롤백된 것으로 보고 잊음 (그 뒤에 커밋됐더라도 purge 대상이라 읽을 수 없음).
+ * 기억하는 번호는 max-tracked-gaps 개까지 (넘으면 오래된 것부터 잊음)
+ * <p>
+ * 메트릭: cache.outbox.position(처리한 마지막 seq), cache.outbox.lag(마지막으로 처리한 이벤트의 지연, ms),
+ * cache.outbox.applied(처리한 이벤트 수), cache.outbox.gaps(다시 찾고 있는 번호 수),
+ * cache.outbox.late(건너뛴 뒤에 늦게 나타나서 처리한 이벤트 수), cache.outbox.gaps.expired(못 찾고 잊은 번호 수)
+ */
+@Slf4j
+@Component
+public class CacheInvalidationPoller {
+    private static final int RESCAN_CHUNK = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<CacheInvalidationListener> listeners;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final int maxTrackedGaps;
+
+    private final TreeMap<Long, LocalDateTime> skipped = new TreeMap<>();      // 건너뛴 seq -> 건너뛴 시각 (poll() 안에서만 접근)
+    private final AtomicLong position = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong late = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    public CacheInvalidationPoller(OutboxEventRepository outboxEventRepository,
+                                   List<CacheInvalidationListener> listeners,
+                                   @Value("${cache.outbox.gap-timeout:5s}") Duration gapTimeout,
+                                   @Value("${cache.outbox.retention:10m}") Duration retention,
+                                   @Value("${cache.outbox.max-tracked-gaps:10000}") int maxTrackedGaps,
+                                   MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.maxTrackedGaps = maxTrackedGaps;
+
+        Gauge.builder("cache.outbox.position", position, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("cache.outbox.lag", lagMillis, AtomicLong::get).baseUnit("milliseconds").register(meterRegistry);
+        FunctionCounter.builder("cache.outbox.applied", applied, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("cache.outbox.gaps", this, CacheInvalidationPoller::getTrackedGaps).register(meterRegistry);
+        FunctionCounter.builder("cache.outbox.late", late, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("cache.outbox.gaps.expired", expired, AtomicLong::get).register(meterRegistry);
+    }
+
+    // 기동 시점의 캐시는 비어 있으므로 과거 이벤트는 처리하지 않고 현재 위치부터 시작
+    @PostConstruct
+    public void init() {
+        position.set(outboxEventRepository.findMaxSeq());
+    }
+
+    @Scheduled(fixedDelayString = "${cache.outbox.poll-interval:500}")
+    public synchronized void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        rescanSkipped(now);
+
+        long current = position.get();
+        List<OutboxEvent> events = outboxEventRepository.findTop500BySeqGreaterThanOrderBySeqAsc(current);
+        if (events.isEmpty()) {
+            lagMillis.set(0);
+            return;
+        }
+
+        LocalDateTime gapDeadline = now.minus(gapTimeout);
+        boolean advancing = true;
+        for (OutboxEvent event : events) {
+            apply(event);
+
+            if (advancing && event.getSeq() == current + 1) {
+                current = event.getSeq();
+            } else if (advancing && event.getCreatedAt().isBefore(gapDeadline)) {
+                for (long seq = current + 1; seq < event.getSeq(); seq++) {
+                    track(seq, now);        // 늦게 커밋될 수 있으므로 다시 찾을 목록에 넣고 건너뜀
+                }
+                current = event.getSeq();
+            } else {
+                advancing = false;      // 아직 커밋되지 않은 seq가 앞에 있음
+            }
+        }
+        position.set(current);
+
+        OutboxEvent last = events.get(events.size() - 1);
+        lagMillis.set(Math.max(0, Duration.between(last.getCreatedAt(), LocalDateTime.now()).toMillis()));
+    }
+
+    // 건너뛴 번호 중 그 사이에 커밋된 이벤트를 처리하고, retention 이 지난 번호는 잊음
+    private void rescanSkipped(LocalDateTime now) {
+        if (skipped.isEmpty()) {
+            return;
+        }
+        LocalDateTime expiry = now.minus(retention);
+        Iterator<Map.Entry<Long, LocalDateTime>> iterator = skipped.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().isBefore(expiry)) {
+                iterator.remove();
+                expired.incrementAndGet();
+            }
+        }
+
+        List<Long> seqs = new ArrayList<>(skipped.keySet());
+        for (int from = 0; from < seqs.size(); from += RESCAN_CHUNK) {
+            List<Long> chunk = seqs.subList(from, Math.min(from + RESCAN_CHUNK, seqs.size()));
+            for (OutboxEvent event : outboxEventRepository.findAllBySeqIn(chunk)) {
+                apply(event);
+                skipped.remove(event.getSeq());
+                late.incrementAndGet();
+            }
+        }
+    }
+
+    private void track(long seq, LocalDateTime now) {
+        skipped.put(seq, now);
+        if (skipped.size() > maxTrackedGaps) {
+            skipped.pollFirstEntry();
+            expired.incrementAndGet();
+        }
+    }
+
+    private void apply(OutboxEvent event) {
+        for (CacheInvalidationListener listener : listeners) {
+            listener.invalidate(event);
+        }
+        applied.incrementAndGet();
+    }
+
+    // 모든 노드가 충분히 읽은 오래된 이벤트 삭제
+    @Scheduled(fixedDelayString = "${cache.outbox.purge-interval:60000}")
+    public void purge() {
+        int deleted = outboxEventRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("OUTBOX PURGED : {}", deleted);
+        }
+    }
+
+    public long getPosition() {
+        return position.get();
+    }
+
+    public long getLagMillis() {
+        return lagMillis.get();
+    }
+
+    public synchronized int getTrackedGaps() {
+        return skipped.size();
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.board.common.cache;
+
+import com.study.board.entity.OutboxEvent;
+import com.study.board.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 변경 트랜잭션 안에서 outbox 이벤트를 저장 (변경이 롤백되면 이벤트도 함께 롤백)
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEvent.EntityType entityType, OutboxEvent.ChangeType changeType, Long entityId) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .entityType(entityType)
+                .changeType(changeType)
+                .entityId(entityId)
+                .build());
+    }
+}
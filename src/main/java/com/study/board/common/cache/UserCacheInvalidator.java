@@ -0,0 +1,24 @@
+package com.study.board.common.cache;
+
+import com.study.board.entity.OutboxEvent;
+import com.study.board.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 다른 노드에서 변경된 유저를 이 노드의 2차 캐시에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator implements CacheInvalidationListener {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void invalidate(OutboxEvent event) {
+        if (event.getEntityType() == OutboxEvent.EntityType.USER) {
+            entityManagerFactory.getCache().evict(User.class, event.getEntityId());
+        }
+    }
+}
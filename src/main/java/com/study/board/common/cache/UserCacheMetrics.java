@@ -0,0 +1,57 @@
+package com.study.board.common.cache;
+
+import com.study.board.entity.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.function.ToLongFunction;
+
+/**
+ * User 2차 캐시 통계를 /actuator/metrics 로 노출
+ * cache.user.gets{result=hit|miss}, cache.user.puts, cache.user.size, cache.user.naturalid.gets{result=hit|miss}
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheMetrics implements MeterBinder {
+    private static final String REGION = User.class.getName();
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        FunctionCounter.builder("cache.user.gets", statistics, s -> region(s, CacheRegionStatistics::getHitCount))
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.user.gets", statistics, s -> region(s, CacheRegionStatistics::getMissCount))
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.user.puts", statistics, s -> region(s, CacheRegionStatistics::getPutCount))
+                .register(registry);
+        Gauge.builder("cache.user.size", statistics, s -> region(s, CacheRegionStatistics::getElementCountInMemory))
+                .register(registry);
+
+        FunctionCounter.builder("cache.user.naturalid.gets", statistics, s -> naturalId(s).getCacheHitCount())
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.user.naturalid.gets", statistics, s -> naturalId(s).getCacheMissCount())
+                .tag("result", "miss").register(registry);
+    }
+
+    // 리전이 아직 만들어지지 않았으면 0
+    private static double region(Statistics statistics, ToLongFunction<CacheRegionStatistics> value) {
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(REGION);
+        return region == null ? 0 : value.applyAsLong(region);
+    }
+
+    private static NaturalIdStatistics naturalId(Statistics statistics) {
+        return statistics.getNaturalIdStatistics(REGION);
+    }
+}
@@ -0,0 +1,69 @@
+package com.study.board.common.config;
+
+import com.study.board.common.datasource.ReplicaRoutingDataSource;
+import com.study.board.common.datasource.RoutingDataSourceProperties;
+import com.study.board.model.user.AuthUser;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * datasource.routing.enabled=true 이면 spring.datasource 대신
+ * primary + replica 커넥션 풀을 만들고 ReplicaRoutingDataSource로 라우팅함
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(RoutingDataSourceProperties properties) {
+        List<RoutingDataSourceProperties.Node> nodes = properties.getReplicas();
+        List<DataSource> replicas = IntStream.range(0, nodes.size())
+                .mapToObj(i -> (DataSource) pool("replica-" + i, nodes.get(i)))
+                .collect(Collectors.toList());
+
+        return new ReplicaRoutingDataSource(pool("primary", properties.getPrimary()), replicas,
+                properties.getStickyWindow(), RoutingDataSourceConfig::currentUserId);
+    }
+
+    // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻도록 지연시킴
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource pool(String name, RoutingDataSourceProperties.Node node) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(node.getUrl());
+        dataSource.setUsername(node.getUsername());
+        dataSource.setPassword(node.getPassword());
+        if (node.getDriverClassName() != null) {
+            dataSource.setDriverClassName(node.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    // JwtFilter가 인증 객체의 principal로 AuthUser를 넣어둠
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser) {
+            return ((AuthUser) authentication.getPrincipal()).getId();
+        }
+        return null;
+    }
+}
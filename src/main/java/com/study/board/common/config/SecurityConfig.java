@@ -1,6 +1,15 @@
 package com.study.board.common.config;
 
+import com.study.board.common.admission.AdmissionController;
+import com.study.board.common.audit.AuditLog;
+import com.study.board.common.filter.AdmissionControlFilter;
+import com.study.board.common.filter.ConnectionBulkheadFilter;
+import com.study.board.common.filter.FirstRequestsLatencyFilter;
 import com.study.board.common.filter.JwtFilter;
+import com.study.board.common.filter.RateLimitFilter;
+import com.study.board.common.ratelimit.RateLimiters;
+import com.study.board.common.startup.FirstRequestsRecorder;
+import com.study.board.common.vthread.ConnectionBulkhead;
 import com.study.board.repository.UserRepository;
 import com.study.board.util.JwtUtils;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +27,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
+    private final RateLimiters rateLimiters;
+    private final AuditLog auditLog;
+    private final AdmissionController admissionController;
+    private final FirstRequestsRecorder firstRequestsRecorder;
+    private final ConnectionBulkhead connectionBulkhead;
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
@@ -27,9 +41,15 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .formLogin().disable()
                 .authorizeRequests()    // 요청에 대해 보안검사 시작
                 .antMatchers("/user/signup").permitAll()    // 해당 URI에 대해 모든 접근 허용
+                .antMatchers("/user/login").permitAll()
+                .antMatchers("/actuator/health", "/actuator/health/**").permitAll()     // 로드밸런서 / 배포 확인용, metrics 는 인증 필요
                 .antMatchers("user/session-login").permitAll()
                 .anyRequest().authenticated()       // 나머지 요청에 대해 보안검사
                 .and()
-                .addFilterBefore(new JwtFilter(jwtUtils, userRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtFilter(jwtUtils, userRepository, auditLog), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new RateLimitFilter(rateLimiters), JwtFilter.class)     // 로그인 IP별 요청 제한
+                .addFilterBefore(new ConnectionBulkheadFilter(connectionBulkhead), JwtFilter.class)     // 가상 스레드 모드의 동시 처리 한도 (RateLimitFilter 다음, 유저 조회 전)
+                .addFilterBefore(new AdmissionControlFilter(admissionController), RateLimitFilter.class)     // 과부하 시 경로 그룹별 요청 거절
+                .addFilterBefore(new FirstRequestsLatencyFilter(firstRequestsRecorder), AdmissionControlFilter.class);     // 기동 직후 N개 요청 응답시간
     }
 }
@@ -0,0 +1,56 @@
+package com.study.board.common.config;
+
+import com.study.board.common.id.TimeOrderedIdGenerator;
+import com.study.board.common.sharding.ShardRouter;
+import com.study.board.common.sharding.ShardedBoardStore;
+import com.study.board.common.sharding.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * sharding.enabled=true 이면 게시글을 sharding.shards 의 DB들에 나눠 저장함
+ * (member, cache_outbox 등 나머지 테이블은 기존 spring.datasource 에 그대로 있음)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardedBoardStore shardedBoardStore(ShardingProperties properties,
+                                               @Value("${id-generator.node-id:0}") int nodeId) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        List<DataSource> dataSources = IntStream.range(0, shards.size())
+                .mapToObj(i -> (DataSource) pool("shard-" + i, shards.get(i)))
+                .collect(Collectors.toList());
+        ShardRouter router = new ShardRouter(shards.stream().map(ShardingProperties.Shard::getBuckets).collect(Collectors.toList()));
+
+        ShardedBoardStore store = new ShardedBoardStore(dataSources, router, TimeOrderedIdGenerator.forNode(nodeId));
+        if (properties.isInitializeSchema()) {
+            store.initializeSchema();
+        }
+        return store;
+    }
+
+    private static HikariDataSource pool(String name, ShardingProperties.Shard shard) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(shard.getUrl());
+        dataSource.setUsername(shard.getUsername());
+        dataSource.setPassword(shard.getPassword());
+        if (shard.getDriverClassName() != null) {
+            dataSource.setDriverClassName(shard.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+        return dataSource;
+    }
+}
@@ -0,0 +1,39 @@
+package com.study.board.common.config;
+
+import com.study.board.util.JwtUtils;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * spring.main.lazy-initialization=true 일 때도 기동 시점에 바로 만들어야 하는 빈 목록
+ * - 모든 요청이 거치는 인증 경로(JwtUtils)는 첫 요청에서 생성 비용을 내지 않도록 미리 생성함 (JwtFilter 는 빈이 아니고 SecurityConfig 에서 생성)
+ * - @Scheduled 메서드가 있는 빈은 생성되지 않으면 스케줄도 등록되지 않으므로 미리 생성함
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerAuthBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(JwtUtils.class);
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerScheduledBeans() {
+        return (beanName, beanDefinition, beanType) -> {
+            if (beanType == null) {
+                return false;
+            }
+            AtomicBoolean scheduled = new AtomicBoolean(false);
+            ReflectionUtils.doWithMethods(beanType,
+                    method -> scheduled.set(true),
+                    method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+            return scheduled.get();
+        };
+    }
+}
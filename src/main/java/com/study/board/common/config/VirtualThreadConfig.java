@@ -0,0 +1,40 @@
+package com.study.board.common.config;
+
+import com.study.board.common.vthread.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * virtual-threads.enabled=true 이면 Tomcat 요청을 스레드 풀 대신 요청마다 새 가상 스레드에서 처리함 (JDK 21 이상)
+ * <p>
+ * 컨트롤러 -> 서비스 -> JPA/JDBC 호출이 모두 같은 요청 스레드에서 실행되므로, DB를 기다리는 동안 캐리어 스레드를 놓아줌.
+ * server.tomcat.threads.max 는 쓰이지 않고, 동시 처리 수는 ConnectionBulkhead 가 커넥션 풀 크기에 맞춰 제한함.
+ * synchronized 안에서 I/O 를 기다리면 캐리어 스레드가 묶이므로(pinning) -Djdk.tracePinnedThreads=short 로 확인할 것
+ * (MySQL Connector/J 8.0 은 synchronized 를 사용하고, 8.1 부터는 ReentrantLock 을 사용함)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+    // 빈으로 등록하지 않음 (Executor 빈이 있으면 기본 applicationTaskExecutor 가 만들어지지 않으므로)
+    private final ExecutorService requestExecutor = VirtualThreads.newPerTaskExecutor("http-vt-");     // JDK 21 미만이면 기동 실패
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        log.info("VIRTUAL THREADS enabled for request handling (java {})", System.getProperty("java.version"));
+        return protocolHandler -> protocolHandler.setExecutor(requestExecutor);
+    }
+
+    // 외부에서 넣은 executor 는 Tomcat 이 종료하지 않음
+    @PreDestroy
+    public void shutdown() {
+        requestExecutor.shutdown();
+    }
+}
@@ -0,0 +1,171 @@
+package com.study.board.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 나머지는 primary로 보내는 DataSource
+ * <p>
+ * 1. readOnly 트랜잭션이 아니면 primary
+ * 2. 최근 stickyWindow 안에 쓰기 트랜잭션을 커밋한 유저의 읽기는 primary (read-your-writes)
+ * 3. 그 외 읽기는 살아있는 replica 중 라운드로빈, 모두 죽어 있으면 primary
+ * <p>
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 얻는 시점에 결정되어 있어야 하므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 함 (RoutingDataSourceConfig 참고)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final long stickyWindowMillis;
+    private final Supplier<Long> currentUserId;
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();     // userId -> primary로 읽어야 하는 시각(ms)
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    Duration stickyWindow, Supplier<Long> currentUserId) {
+        this.primary = primary;
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + i, replicas.get(i)));
+        }
+        this.stickyWindowMillis = stickyWindow.toMillis();
+        this.currentUserId = currentUserId;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    // 계정을 지정해도 같은 규칙으로 고른 DataSource 에서 얻음
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markStickyAfterCommit();
+            return opener.open(primary);
+        }
+
+        Long userId = currentUserId.get();
+        if (userId != null && isSticky(userId)) {
+            return opener.open(primary);
+        }
+
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = nextHealthyReplica();
+            if (replica == null) {
+                break;
+            }
+            try {
+                return opener.open(replica.dataSource);
+            } catch (SQLException e) {
+                // 커넥션을 못 얻은 replica는 다음 헬스체크까지 제외하고 다음 replica로
+                replica.markDown(e);
+            }
+        }
+        return opener.open(primary);
+    }
+
+    // 제외된 replica를 다시 확인해서 살아나면 라운드로빈에 복귀시키고, 만료된 sticky 항목을 정리함
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(1)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until < now);
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(cursor.getAndIncrement(), size));
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private boolean isSticky(Long userId) {
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            stickyUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 해당 유저를 stickyWindow 동안 primary에 고정
+    private void markStickyAfterCommit() {
+        Long userId = currentUserId.get();
+        if (userId == null || stickyWindowMillis <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyUntil.put(userId, System.currentTimeMillis() + stickyWindowMillis);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void markDown(SQLException e) {
+            if (healthy) {
+                log.warn("REPLICA DOWN : {} ({})", name, e == null ? "invalid connection" : e.getMessage());
+            }
+            healthy = false;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                log.info("REPLICA UP : {}", name);
+            }
+            healthy = true;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.study.board.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 설정 (datasource.routing.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class RoutingDataSourceProperties {
+    private boolean enabled = false;
+    private Node primary = new Node();
+    private List<Node> replicas = new ArrayList<>();
+
+    // 자기 글을 쓴 유저의 읽기를 primary로 보내는 시간 (read-your-writes)
+    private Duration stickyWindow = Duration.ofSeconds(3);
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
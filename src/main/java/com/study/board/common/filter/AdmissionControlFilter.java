@@ -0,0 +1,45 @@
+package com.study.board.common.filter;
+
+import com.study.board.common.admission.AdmissionController;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.common.response.BaseResponseWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 보안 필터 체인의 맨 앞에서 경로 그룹별 동시 처리 한도를 확인하는 필터
+ * 한도를 넘으면 커넥션을 기다리며 쌓이지 않도록 바로 SERVICE_OVERLOADED(503) 응답
+ */
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    private final AdmissionController admissionController;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        AdmissionController.RouteGroup group = admissionController.classify(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!admissionController.tryAcquire(group)) {
+            response.setHeader("Retry-After", "1");
+            BaseResponseWriter.write(response, BaseResponseStatus.SERVICE_OVERLOADED);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            admissionController.release(group, System.nanoTime() - start, dropped);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.study.board.common.filter;
+
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.common.response.BaseResponseWriter;
+import com.study.board.common.vthread.ConnectionBulkhead;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 가상 스레드 모드에서 커넥션 풀 크기만큼만 요청을 처리하는 필터 (ConnectionBulkhead)
+ * 인증(유저 조회)보다 앞에 있어야 함. 헬스 체크와 SSE 스트림은 커넥션을 잡지 않으므로 제외
+ */
+@RequiredArgsConstructor
+public class ConnectionBulkheadFilter extends OncePerRequestFilter {
+    private final ConnectionBulkhead bulkhead;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String uri = request.getRequestURI();
+        if (!bulkhead.isEnabled() || uri.startsWith("/actuator/") || uri.equals("/board/stream")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setHeader("Retry-After", "1");
+            BaseResponseWriter.write(response, BaseResponseStatus.SERVICE_OVERLOADED);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.study.board.common.filter;
+
+import com.study.board.common.startup.FirstRequestsRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 보안 필터 체인의 맨 앞에서 기동 직후 요청의 응답시간을 재는 필터 (인증 필터 처리 시간 포함)
+ * 처음 N개를 모은 뒤에는 시간을 재지 않고 바로 넘김
+ */
+@RequiredArgsConstructor
+public class FirstRequestsLatencyFilter extends OncePerRequestFilter {
+    private final FirstRequestsRecorder recorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!recorder.isRecording() || request.getRequestURI().startsWith("/actuator/")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.record(System.nanoTime() - start);
+        }
+    }
+}
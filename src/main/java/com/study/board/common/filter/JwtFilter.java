@@ -1,6 +1,9 @@
 package com.study.board.common.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.study.board.common.audit.AuditEvent;
+import com.study.board.common.audit.AuditLog;
 import com.study.board.common.exception.BaseException;
 import com.study.board.common.response.BaseResponse;
 import com.study.board.repository.UserRepository;
@@ -10,7 +13,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -22,12 +24,19 @@ import java.io.PrintWriter;
 import java.util.Arrays;
 import java.util.List;
 
+/*
+빈으로 등록하지 않고 SecurityConfig 에서 생성해 security filter chain 에만 넣음
+(@Component 로 두면 Spring Boot 가 서블릿 필터로도 등록해서 요청마다 두 번 실행됨: 토큰 검증 / 유저 조회도 두 번)
+ */
 @Slf4j
 @RequiredArgsConstructor
-@Component
 public class JwtFilter extends OncePerRequestFilter {
+    // 요청마다 ObjectMapper를 새로 만들면 직렬화 캐시가 매번 비어 있으므로 공유 (ObjectWriter는 thread-safe)
+    private static final ObjectWriter errorWriter = new ObjectMapper().writerWithDefaultPrettyPrinter();
+
     private final JwtUtils jwtUtils;
     private final UserRepository userRepository;
+    private final AuditLog auditLog;
 
 
     /*
@@ -50,9 +59,11 @@ public class JwtFilter extends OncePerRequestFilter {
 
         // 요청된 URI가 userList에 포함되어 있는 경우 or 요청의 HTTP 메서드가 OPTIONS인 경우
         // OPTIONS: 브라우저에서 서버로 사전 요청을 보내어 서버가 허용하는 옵셥을 미리 확인하는 것을 말함 == preflight
-        if (uriList.contains(request.getRequestURI()) || request.getMethod().equalsIgnoreCase("OPTION")) {
+        if (uriList.contains(request.getRequestURI())
+                || isHealthCheck(request.getRequestURI())      // 로드밸런서 / 배포 확인 (metrics 는 토큰 필요)
+                || request.getMethod().equalsIgnoreCase("OPTION")) {
             if (uriList.contains(request.getRequestURI())) {
-                log.info("NO NEED TOKEN URI : {}", request.getRequestURI());
+                auditLog.publish(AuditEvent.Type.ACCESS, null, request.getRequestURI());     // 토큰이 필요 없는 URI 접근 기록
             }
 
             filterChain.doFilter(request, response);
@@ -76,14 +87,14 @@ public class JwtFilter extends OncePerRequestFilter {
             BaseResponse<Object> baseResponse = new BaseResponse<>(e.getStatus());
 
             // BaseResponse 객체를 JSON 형식의 문자열로 변환
-            String jsonRes = new ObjectMapper()
-                    .writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(baseResponse);
+            String jsonRes = errorWriter.writeValueAsString(baseResponse);
             printWriter.print(jsonRes);     // 출력
             printWriter.flush();    // 출력 버퍼를 비움
             printWriter.close();    // 출력 스트림을 닫음
         }
     }
 
-
+    private static boolean isHealthCheck(String uri) {
+        return uri.equals("/actuator/health") || uri.startsWith("/actuator/health/");
+    }
 }
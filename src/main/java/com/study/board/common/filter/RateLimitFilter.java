@@ -0,0 +1,43 @@
+package com.study.board.common.filter;
+
+import com.study.board.common.ratelimit.RateLimiters;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.common.response.BaseResponseWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 로그인 요청을 IP별로 제한하는 필터 (JwtFilter 앞)
+ * 제한을 넘으면 DB 조회, 비밀번호 해시 없이 바로 TOO_MANY_REQUESTS 응답
+ * <p>
+ * IP는 request.getRemoteAddr() 이고, 로드밸런서 뒤에서는 server.forward-headers-strategy=native 로
+ * 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)가 붙인 X-Forwarded-For 의 클라이언트 IP가 됨.
+ * 헤더를 직접 읽지 않으므로 클라이언트가 보낸 X-Forwarded-For 로 다른 IP 행세를 할 수 없음.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Set<String> LOGIN_URIS = Set.of("/user/login", "/user/session-login");
+
+    private final RateLimiters rateLimiters;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !LOGIN_URIS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!rateLimiters.tryLoginFromIp(request.getRemoteAddr())) {
+            BaseResponseWriter.write(response, BaseResponseStatus.TOO_MANY_REQUESTS);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,72 @@
+package com.study.board.common.id;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 버킷이 들어있는 시간순 id (게시글, 유저)
+ * <p>
+ * | 41bit 밀리초 (2023-01-01 기준) | 10bit 버킷 | 4bit 노드 | 8bit 시퀀스 |
+ * <p>
+ * 버킷은 작성자 user_id로 정해지고 바뀌지 않으므로, id만 보고도 어느 샤드에 있는지 알 수 있음.
+ * 샤드를 늘릴 때는 버킷 -> 샤드 매핑만 바꾸고 버킷 단위로 행을 옮기면 되고 id는 그대로임.
+ * (밀리초, 시퀀스)를 long 하나에 담아 CAS로만 갱신하므로 락이 없고,
+ * 1ms 안에 256개를 넘으면 다음 밀리초를 미리 당겨 씀 (시계가 뒤로 가도 id는 줄어들지 않음)
+ * 노드 번호마다 인스턴스 하나를 공유해서 Hibernate / JDBC batch insert / 샤드 어디서 만들어도 겹치지 않음
+ */
+public class TimeOrderedIdGenerator {
+    public static final long EPOCH = 1672531200000L;       // 2023-01-01T00:00:00Z
+    static final int SEQUENCE_BITS = 8;
+    static final int NODE_BITS = 4;
+    static final int BUCKET_BITS = 10;
+    public static final int BUCKETS = 1 << BUCKET_BITS;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int BUCKET_SHIFT = SEQUENCE_BITS + NODE_BITS;
+    private static final int TIMESTAMP_SHIFT = BUCKET_SHIFT + BUCKET_BITS;
+
+    private static final ConcurrentHashMap<Integer, TimeOrderedIdGenerator> NODES = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final AtomicLong state = new AtomicLong();      // (밀리초 << 8) | 시퀀스
+
+    public TimeOrderedIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId >= (1 << NODE_BITS)) {
+            throw new IllegalArgumentException("nodeId must be 0 ~ " + ((1 << NODE_BITS) - 1));
+        }
+        this.nodeId = nodeId;
+    }
+
+    public static TimeOrderedIdGenerator forNode(int nodeId) {
+        return NODES.computeIfAbsent(nodeId, TimeOrderedIdGenerator::new);
+    }
+
+    public long nextId(int bucket) {
+        while (true) {
+            long prev = state.get();
+            long prevMillis = prev >>> SEQUENCE_BITS;
+            long now = System.currentTimeMillis() - EPOCH;
+
+            long next;
+            if (now > prevMillis) {
+                next = now << SEQUENCE_BITS;
+            } else if ((prev & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = prev + 1;
+            } else {
+                next = (prevMillis + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(prev, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return millis << TIMESTAMP_SHIFT
+                        | (long) bucket << BUCKET_SHIFT
+                        | nodeId << SEQUENCE_BITS
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public static int bucketOf(long id) {
+        return (int) (id >>> BUCKET_SHIFT) & (BUCKETS - 1);
+    }
+}
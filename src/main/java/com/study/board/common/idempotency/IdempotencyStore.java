@@ -0,0 +1,174 @@
+package com.study.board.common.idempotency;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponse;
+import com.study.board.common.response.BaseResponseStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 결과 저장소 ((userId, key) -> BaseResponse)
+ * <p>
+ * 1. 처음 온 요청만 실제로 처리하고, 처리 중에 같은 키로 온 요청은 첫 요청의 결과를 기다렸다가 같은 응답을 받음
+ * 2. 성공한 응답은 ttl 동안 보관해서, 재시도 요청은 DB 작업 없이 보관된 응답을 그대로 받음
+ * 3. 실패한 응답은 보관하지 않음 (재시도하면 다시 처리)
+ * 보관 개수는 max-entries 로 제한하고, 넘으면 먼저 완료된 항목부터 지움
+ * (완료 순서 큐에는 보관한 성공 응답만 한 번씩 들어가므로 처리 중인 항목을 건너뛰거나 다시 넣을 일이 없음)
+ */
+@Component
+public class IdempotencyStore {
+    public static final String HEADER = "Idempotency-Key";
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> completionOrder = new ConcurrentLinkedQueue<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long waitTimeoutMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public IdempotencyStore(@Value("${idempotency.ttl:10m}") Duration ttl,
+                            @Value("${idempotency.max-entries:100000}") int maxEntries,
+                            @Value("${idempotency.wait-timeout:5s}") Duration waitTimeout) {
+        this(ttl, maxEntries, waitTimeout, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시간을 직접 움직이기 위한 생성자
+    IdempotencyStore(Duration ttl, int maxEntries, Duration waitTimeout, LongSupplier clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.clock = clock;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> BaseResponse<T> execute(Long userId, String idempotencyKey, Supplier<BaseResponse<T>> action) {
+        Key key = new Key(userId, idempotencyKey);
+        Entry mine = new Entry(key);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, mine);
+            if (existing == null) {
+                break;      // 이 요청이 처리 담당
+            }
+            if (!existing.isExpired(clock.getAsLong())) {
+                return (BaseResponse<T>) await(existing);
+            }
+            entries.remove(key, existing);
+        }
+
+        try {
+            BaseResponse<T> response = action.get();
+            if (Boolean.TRUE.equals(response.getIsSuccess())) {
+                completionOrder.add(mine);
+            } else {
+                entries.remove(key, mine);
+            }
+            mine.complete(response, clock.getAsLong() + ttlMillis);
+            evictOverCapacity();
+            return response;
+        } catch (RuntimeException e) {
+            entries.remove(key, mine);
+            mine.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.eviction-interval:60000}")
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        completionOrder.removeIf(entry -> entries.get(entry.key) != entry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private BaseResponse<?> await(Entry entry) {
+        try {
+            return entry.future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.DUPLICATE_REQUEST_IN_PROGRESS);
+        } catch (TimeoutException e) {
+            throw new BaseException(BaseResponseStatus.DUPLICATE_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();      // 첫 요청과 같은 예외
+            }
+            throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
+        }
+    }
+
+    // 큐에는 완료된 항목만 있으므로 처리 중인 항목은 지우지 않음
+    // 이미 만료 등으로 맵에서 빠진 항목은 remove(key, entry) 가 아무것도 지우지 않고 버려짐
+    private void evictOverCapacity() {
+        while (entries.size() > maxEntries) {
+            Entry oldest = completionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest.key, oldest);
+        }
+    }
+
+    private static final class Key {
+        private final Long userId;
+        private final String idempotencyKey;
+
+        Key(Long userId, String idempotencyKey) {
+            this.userId = userId;
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(userId, other.userId) && idempotencyKey.equals(other.idempotencyKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, idempotencyKey);
+        }
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final CompletableFuture<BaseResponse<?>> future = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;     // 완료 전에는 만료되지 않음
+
+        Entry(Key key) {
+            this.key = key;
+        }
+
+        void complete(BaseResponse<?> response, long expiresAt) {
+            this.expiresAt = expiresAt;
+            future.complete(response);
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt < now;
+        }
+    }
+}
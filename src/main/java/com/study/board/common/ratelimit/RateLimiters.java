@@ -0,0 +1,70 @@
+package com.study.board.common.ratelimit;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔드포인트별 요청 제한
+ * - 로그인: IP별 (RateLimitFilter), 계정별 (UserService, DB 조회 전)
+ * - 게시글 작성: 유저별 (BoardService, DB 조회 전)
+ * <p>
+ * 메트릭: rate-limit.overflowed{limiter} (키 수 한도 때문에 제한 없이 통과시킨 요청 수)
+ */
+@Component
+public class RateLimiters {
+    private final TokenBucketLimiter<String> loginByIp;
+    private final TokenBucketLimiter<String> loginByAccount;
+    private final TokenBucketLimiter<Long> boardWriteByUser;
+
+    public RateLimiters(@Value("${rate-limit.login-ip.permits-per-second:5}") double loginIpRate,
+                        @Value("${rate-limit.login-ip.burst:20}") int loginIpBurst,
+                        @Value("${rate-limit.login-account.permits-per-second:0.2}") double loginAccountRate,
+                        @Value("${rate-limit.login-account.burst:5}") int loginAccountBurst,
+                        @Value("${rate-limit.board-write.permits-per-second:1}") double boardWriteRate,
+                        @Value("${rate-limit.board-write.burst:10}") int boardWriteBurst,
+                        @Value("${rate-limit.max-keys:100000}") int maxKeys,
+                        MeterRegistry meterRegistry) {
+        this.loginByIp = new TokenBucketLimiter<>(loginIpRate, loginIpBurst, maxKeys);
+        this.loginByAccount = new TokenBucketLimiter<>(loginAccountRate, loginAccountBurst, maxKeys);
+        this.boardWriteByUser = new TokenBucketLimiter<>(boardWriteRate, boardWriteBurst, maxKeys);
+
+        registerOverflow(meterRegistry, "login-ip", loginByIp);
+        registerOverflow(meterRegistry, "login-account", loginByAccount);
+        registerOverflow(meterRegistry, "board-write", boardWriteByUser);
+    }
+
+    private static void registerOverflow(MeterRegistry meterRegistry, String name, TokenBucketLimiter<?> limiter) {
+        FunctionCounter.builder("rate-limit.overflowed", limiter, TokenBucketLimiter::overflowed)
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    public boolean tryLoginFromIp(String ip) {
+        return loginByIp.tryAcquire(ip);
+    }
+
+    public void checkLoginAccount(String email) throws BaseException {
+        if (email != null && !loginByAccount.tryAcquire(email)) {
+            throw new BaseException(BaseResponseStatus.TOO_MANY_REQUESTS);
+        }
+    }
+
+    public void checkBoardWrite(Long userId) throws BaseException {
+        if (userId != null && !boardWriteByUser.tryAcquire(userId)) {
+            throw new BaseException(BaseResponseStatus.TOO_MANY_REQUESTS);
+        }
+    }
+
+    // 한동안 요청이 없어 토큰이 가득 찬 버킷 정리 (요청 경로에서는 정리하지 않음)
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdle() {
+        loginByIp.evictIdle();
+        loginByAccount.evictIdle();
+        boardWriteByUser.evictIdle();
+    }
+}
@@ -0,0 +1,89 @@
+package com.study.board.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(IP, 계정, 유저)별 토큰 버킷
+ * <p>
+ * 버킷 하나를 long 하나(다음 토큰이 생기는 이론상 시각, GCRA 방식)로 표현하고 CAS로만 갱신하므로 락이 없음.
+ * 키 맵은 ConcurrentHashMap(내부적으로 bin 단위 스트라이핑)이고, 토큰이 가득 찬(= 한동안 요청이 없던) 버킷은
+ * evictIdle()로 지워도 동작이 달라지지 않으므로 스케줄러에서 주기적으로 정리해서 메모리를 제한함 (요청 경로에서는 정리하지 않음).
+ * 키가 maxKeys 개를 넘으면 새 키는 버킷을 만들지 않고 통과시킴 (fail open).
+ * 대량의 키를 뿌리는 공격이 최근에 요청하지 않은 정상 사용자를 막지 못하게 하고, 이미 있는 키의 제한은 그대로 유지됨.
+ */
+public class TokenBucketLimiter<K> {
+    private final ConcurrentHashMap<K, Bucket> buckets = new ConcurrentHashMap<>();
+    private final long intervalNanos;       // 토큰 1개가 채워지는 시간
+    private final long toleranceNanos;      // 버스트 허용량 (burst - 1) * interval
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final AtomicLong overflowed = new AtomicLong();
+
+    public TokenBucketLimiter(double permitsPerSecond, int burst, int maxKeys) {
+        this(permitsPerSecond, burst, maxKeys, System::nanoTime);
+    }
+
+    // 테스트에서 시간을 직접 움직이기 위한 생성자
+    TokenBucketLimiter(double permitsPerSecond, int burst, int maxKeys, LongSupplier nanoClock) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.toleranceNanos = intervalNanos * Math.max(0, burst - 1);
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean tryAcquire(K key) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                overflowed.incrementAndGet();
+                return true;        // 가득 참: 정리는 스케줄러가 하고 새 키는 통과
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    // 가득 찬 버킷 제거
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    // 키 수 한도 때문에 제한 없이 통과시킨 요청 수
+    public long overflowed() {
+        return overflowed.get();
+    }
+
+    private final class Bucket {
+        private final AtomicLong theoreticalArrival;
+
+        Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        boolean tryAcquire(long now) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long base = Math.max(tat, now);
+                if (base - now > toleranceNanos) {
+                    return false;       // 남은 토큰 없음
+                }
+                if (theoreticalArrival.compareAndSet(tat, base + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return theoreticalArrival.get() <= now;
+        }
+    }
+}
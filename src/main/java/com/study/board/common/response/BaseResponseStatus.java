@@ -19,12 +19,17 @@ public enum BaseResponseStatus {         // HttpStatus 코드
     CONTEXT_LENGTH_ERROR(false, HttpStatus.BAD_REQUEST.value(), "내용은 0자 이상 500자 이하까지 입력할 수 있습니다"),
     NOT_MATCH_PASSWORD(false, HttpStatus.UNAUTHORIZED.value(), "비밀번호가 일치하지 않습니다."),
     NO_SESSION_ID(false, HttpStatus.BAD_REQUEST.value(), "세션아이디가 존재하지 않습니다."),
+    INVALID_FIELDS(false, HttpStatus.BAD_REQUEST.value(), "조회할 수 없는 필드입니다."),
+    TOO_MANY_IDS(false, HttpStatus.BAD_REQUEST.value(), "한 번에 조회할 수 있는 게시글 수를 넘었습니다."),
+    DUPLICATE_REQUEST_IN_PROGRESS(false, HttpStatus.CONFLICT.value(), "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(false, HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 5xx 에러
     DATABASE_INSERT_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR.value(), "데이터베이스 저장에 실패하였습니다"),
     PASSWORD_ENCRYPTION_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR.value(), "비밀번호 암호화에 실패하였습니다."),
     DATABASE_DELETE_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR.value(), "데이터베이스 삭제에 실패하였습니다."),
-    REDIRECT_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR.value(), "리다이렉트에 실패하였습니다.");
+    REDIRECT_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR.value(), "리다이렉트에 실패하였습니다."),
+    SERVICE_OVERLOADED(false, HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     /*
     isSuccess: 요청의 성공/실패
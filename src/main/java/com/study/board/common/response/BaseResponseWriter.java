@@ -0,0 +1,23 @@
+package com.study.board.common.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 컨트롤러까지 가지 않고 필터에서 바로 BaseResponse를 응답할 때 사용
+ */
+public class BaseResponseWriter {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BaseResponseWriter() {
+    }
+
+    public static void write(HttpServletResponse response, BaseResponseStatus status) throws IOException {
+        response.setStatus(status.getCode());
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType("application/json");
+        objectMapper.writeValue(response.getOutputStream(), new BaseResponse<>(status));
+    }
+}
@@ -0,0 +1,151 @@
+package com.study.board.common.seed;
+
+import com.study.board.common.id.TimeOrderedIdGenerator;
+import com.study.board.common.sharding.ShardRouter;
+import com.study.board.common.stats.UserPostStatsReconciler;
+import com.study.board.entity.User;
+import com.study.board.util.SHA256;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 대량 데이터 시더
+ * <p>
+ * local 프로필 + seed.enabled=true 일 때만 동작.
+ * JPA를 거치지 않고 JDBC batch insert로 member / boards 테이블을 채움.
+ * 모든 유저의 비밀번호는 seed.password 이고, 이메일은 seed-user-{n}@board.test 형식 (n은 1부터 시작)
+ */
+@Slf4j
+@Component
+@Profile("local")
+@ConditionalOnProperty(prefix = "seed", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DataSeeder implements ApplicationRunner {
+    private static final String INSERT_USER =
+            "INSERT INTO member (id, name, age, email, password, role, state, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BOARD =
+            "INSERT INTO boards (id, title, content, user_id, state, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserPostStatsReconciler userPostStatsReconciler;
+
+    @Value("${seed.users:100000}")
+    private int userCount;
+
+    @Value("${seed.boards:10000000}")
+    private long boardCount;
+
+    @Value("${seed.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${seed.password:Seed1234!}")
+    private String password;
+
+    @Value("${id-generator.node-id:0}")
+    private int nodeId;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 엔티티와 같은 생성기로 id를 미리 만듦 (id가 연속이 아니므로 게시글 작성자는 이 배열에서 고름)
+        TimeOrderedIdGenerator idGenerator = TimeOrderedIdGenerator.forNode(nodeId);
+
+        long start = System.currentTimeMillis();
+        long[] userIds = seedUsers(idGenerator);
+        log.info("SEED member {} rows ({} ms)", userCount, System.currentTimeMillis() - start);
+        if (userIds.length == 0) {
+            return;
+        }
+
+        start = System.currentTimeMillis();
+        seedBoards(idGenerator, userIds);
+        log.info("SEED boards {} rows ({} ms)", boardCount, System.currentTimeMillis() - start);
+
+        // 게시글을 JDBC로 넣었으므로 user_post_stats 는 보정 작업으로 채움
+        userPostStatsReconciler.reconcile();
+    }
+
+    private long[] seedUsers(TimeOrderedIdGenerator idGenerator) {
+        String encryptPw = SHA256.encrypt(password);     // 모든 유저가 같은 비밀번호를 사용하므로 한 번만 암호화
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] userIds = new long[userCount];
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 1; i <= userCount; i++) {
+            userIds[i - 1] = idGenerator.nextId(0);
+            batch.add(new Object[]{
+                    userIds[i - 1],
+                    "user" + (i % 100000),      // name 컬럼 길이 10 제한
+                    20 + (i % 40),
+                    "seed-user-" + i + "@board.test",
+                    encryptPw,
+                    User.Role.ROLE_USER.ordinal(),      // role은 @Enumerated가 없어 ordinal로 저장됨
+                    "ACTIVE",
+                    now,
+                    now
+            });
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_USER, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_USER, batch);
+        }
+        return userIds;
+    }
+
+    private void seedBoards(TimeOrderedIdGenerator idGenerator, long[] userIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (long i = 1; i <= boardCount; i++) {
+            // 1년 동안 고르게 작성된 것처럼 작성 시간을 분산
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i * 31_536_000L / boardCount));
+            long userId = userIds[random.nextInt(userIds.length)];
+            batch.add(new Object[]{
+                    idGenerator.nextId(ShardRouter.bucketOf(userId)),
+                    "title " + i,
+                    content(random),
+                    userId,
+                    "ACTIVE",
+                    createdAt,
+                    createdAt
+            });
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_BOARD, batch);
+                batch.clear();
+            }
+            if (i % 1_000_000 == 0) {
+                log.info("SEED boards progress: {} / {}", i, boardCount);
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_BOARD, batch);
+        }
+    }
+
+    // 50 ~ 500자 사이의 본문
+    private String content(ThreadLocalRandom random) {
+        int length = random.nextInt(50, 501);
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append("lorem ipsum dolor sit amet ");
+        }
+        sb.setLength(length);
+        return sb.toString();
+    }
+}
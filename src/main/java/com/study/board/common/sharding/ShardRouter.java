@@ -0,0 +1,76 @@
+package com.study.board.common.sharding;
+
+import com.study.board.common.id.TimeOrderedIdGenerator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * user_id -> 버킷 -> 샤드
+ * 버킷은 user_id 해시로 고정 (바꾸면 기존 id의 위치를 찾을 수 없으므로 절대 바꾸지 않음)
+ */
+public class ShardRouter {
+    private final int[] bucketToShard = new int[TimeOrderedIdGenerator.BUCKETS];
+    private final int shardCount;
+
+    /**
+     * @param ranges 샤드별 버킷 범위 ("0-511"), 모두 null이면 균등 분할
+     */
+    public ShardRouter(List<String> ranges) {
+        this.shardCount = ranges.size();
+        if (shardCount == 0) {
+            throw new IllegalArgumentException("at least one shard is required");
+        }
+        if (ranges.stream().allMatch(range -> range == null || range.isBlank())) {
+            for (int bucket = 0; bucket < bucketToShard.length; bucket++) {
+                bucketToShard[bucket] = bucket * shardCount / bucketToShard.length;
+            }
+            return;
+        }
+
+        Arrays.fill(bucketToShard, -1);
+        for (int shard = 0; shard < shardCount; shard++) {
+            String[] bounds = ranges.get(shard).trim().split("-");
+            int from = Integer.parseInt(bounds[0].trim());
+            int to = Integer.parseInt(bounds[bounds.length - 1].trim());
+            for (int bucket = from; bucket <= to; bucket++) {
+                bucketToShard[bucket] = shard;
+            }
+        }
+        for (int bucket = 0; bucket < bucketToShard.length; bucket++) {
+            if (bucketToShard[bucket] < 0) {
+                throw new IllegalArgumentException("bucket " + bucket + " is not assigned to any shard");
+            }
+        }
+    }
+
+    public int bucketOfUser(long userId) {
+        return bucketOf(userId);
+    }
+
+    /**
+     * 샤딩을 쓰지 않을 때도 게시글 id에 같은 버킷을 넣기 위해 static으로 둠 (나중에 샤딩을 켜도 id가 그대로 맞음)
+     */
+    public static int bucketOf(long userId) {
+        // murmur3 finalizer로 섞은 뒤 버킷 수로 나눔
+        long h = userId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) (h & (TimeOrderedIdGenerator.BUCKETS - 1));
+    }
+
+    public int shardOfUser(long userId) {
+        return bucketToShard[bucketOfUser(userId)];
+    }
+
+    public int shardOfBoard(long boardId) {
+        return bucketToShard[TimeOrderedIdGenerator.bucketOf(boardId)];
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+}
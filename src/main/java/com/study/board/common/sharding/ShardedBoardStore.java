@@ -0,0 +1,291 @@
+package com.study.board.common.sharding;
+
+import com.study.board.common.id.TimeOrderedIdGenerator;
+import com.study.board.common.stats.PostStats;
+import com.study.board.model.board.BoardRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * user_id 기준으로 나눈 boards 샤드 (sharding.enabled=true 일 때 ShardedBoardStoreAdapter 를 거쳐 BoardService가 사용)
+ * <p>
+ * 쓰기 / 수정 / 삭제 / 단건 조회 / 유저별 조회는 샤드 하나에만 보내고,
+ * 전체 피드는 샤드마다 keyset 쿼리(id < cursor order by id desc limit n)를 동시에 보낸 뒤 k-way merge 함.
+ * id가 시간순이므로 id 내림차순이 곧 최신순임.
+ */
+@Slf4j
+public class ShardedBoardStore {
+    private static final String COLUMNS = "id, user_id, title, content, created_at, updated_at";
+    private static final RowMapper<BoardRow> ROW_MAPPER = (rs, rowNum) -> new BoardRow(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            rs.getString("title"),
+            rs.getString("content"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getTimestamp("updated_at").toLocalDateTime());
+
+    private final List<DataSource> dataSources;
+    private final List<NamedParameterJdbcTemplate> shards;
+    private final ShardRouter router;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final ExecutorService fanOut;
+
+    public ShardedBoardStore(List<DataSource> dataSources, ShardRouter router, TimeOrderedIdGenerator idGenerator) {
+        if (dataSources.size() != router.shardCount()) {
+            throw new IllegalArgumentException("shard count mismatch: " + dataSources.size() + " != " + router.shardCount());
+        }
+        this.dataSources = dataSources;
+        this.shards = dataSources.stream().map(NamedParameterJdbcTemplate::new).collect(Collectors.toList());
+        this.router = router;
+        this.idGenerator = idGenerator;
+
+        // 여러 샤드에 보내는 쿼리를 동시에 실행하기 위한 스레드 (샤드당 2개)
+        AtomicInteger sequence = new AtomicInteger();
+        this.fanOut = Executors.newFixedThreadPool(dataSources.size() * 2, runnable -> {
+            Thread thread = new Thread(runnable, "shard-fan-out-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void close() throws Exception {
+        fanOut.shutdown();
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable) {
+                ((AutoCloseable) dataSource).close();
+            }
+        }
+    }
+
+    // 로컬/테스트용 스키마 생성 (운영 샤드는 마이그레이션으로 만듦)
+    public void initializeSchema() {
+        for (NamedParameterJdbcTemplate shard : shards) {
+            JdbcTemplate jdbc = shard.getJdbcTemplate();
+            jdbc.execute("CREATE TABLE IF NOT EXISTS boards ("
+                    + "id BIGINT NOT NULL PRIMARY KEY, "
+                    + "title VARCHAR(50) NOT NULL, "
+                    + "content VARCHAR(500) NOT NULL, "
+                    + "user_id BIGINT NOT NULL, "
+                    + "state VARCHAR(10) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, "
+                    + "updated_at TIMESTAMP NOT NULL)");
+            jdbc.execute("CREATE TABLE IF NOT EXISTS boards_archive ("
+                    + "id BIGINT NOT NULL PRIMARY KEY, "
+                    + "title VARCHAR(50) NOT NULL, "
+                    + "content VARCHAR(500) NOT NULL, "
+                    + "user_id BIGINT NOT NULL, "
+                    + "state VARCHAR(10) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, "
+                    + "updated_at TIMESTAMP NOT NULL, "
+                    + "archived_at TIMESTAMP NOT NULL)");
+            createIndex(jdbc, "CREATE INDEX idx_boards_user_id ON boards (user_id, id)");
+            createIndex(jdbc, "CREATE INDEX idx_boards_state_created_at ON boards (state, created_at)");
+            createIndex(jdbc, "CREATE INDEX idx_boards_archive_user_id ON boards_archive (user_id)");
+        }
+    }
+
+    private static void createIndex(JdbcTemplate jdbc, String ddl) {
+        try {
+            jdbc.execute(ddl);
+        } catch (DataAccessException e) {
+            log.debug("SHARD index already exists : {}", e.getMessage());
+        }
+    }
+
+    public long insert(long userId, String title, String content) {
+        long id = idGenerator.nextId(router.bucketOfUser(userId));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        shardOfBoard(id).update(
+                "INSERT INTO boards (id, title, content, user_id, state, created_at, updated_at) "
+                        + "VALUES (:id, :title, :content, :userId, 'ACTIVE', :now, :now)",
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("title", title)
+                        .addValue("content", content)
+                        .addValue("userId", userId)
+                        .addValue("now", now));
+        return id;
+    }
+
+    public Optional<BoardRow> findById(long boardId) {
+        List<BoardRow> rows = shardOfBoard(boardId).query(
+                "SELECT " + COLUMNS + " FROM boards WHERE id = :id AND state = 'ACTIVE'",
+                Map.of("id", boardId), ROW_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    // 샤드별로 IN 쿼리 한 번씩
+    public List<BoardRow> findByIds(Collection<Long> boardIds) {
+        return findByIds("boards", boardIds);
+    }
+
+    // 아카이브로 옮겨진 게시글 (같은 샤드의 boards_archive)
+    public Optional<BoardRow> findArchivedById(long boardId) {
+        List<BoardRow> rows = shardOfBoard(boardId).query(
+                "SELECT " + COLUMNS + " FROM boards_archive WHERE id = :id AND state = 'ACTIVE'",
+                Map.of("id", boardId), ROW_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    public List<BoardRow> findArchivedByIds(Collection<Long> boardIds) {
+        return findByIds("boards_archive", boardIds);
+    }
+
+    private List<BoardRow> findByIds(String table, Collection<Long> boardIds) {
+        Map<Integer, List<Long>> byShard = boardIds.stream().collect(Collectors.groupingBy(router::shardOfBoard));
+        List<CompletableFuture<List<BoardRow>>> futures = new ArrayList<>();
+        byShard.forEach((shard, ids) -> futures.add(CompletableFuture.supplyAsync(() -> shards.get(shard).query(
+                "SELECT " + COLUMNS + " FROM " + table + " WHERE id IN (:ids) AND state = 'ACTIVE'",
+                Map.of("ids", ids), ROW_MAPPER), fanOut)));
+        return futures.stream().flatMap(future -> future.join().stream()).collect(Collectors.toList());
+    }
+
+    public List<BoardRow> findByUser(long userId, Long cursor, int limit) {
+        return shards.get(router.shardOfUser(userId)).query(
+                "SELECT " + COLUMNS + " FROM boards WHERE user_id = :userId AND id < :cursor AND state = 'ACTIVE' "
+                        + "ORDER BY id DESC LIMIT :limit",
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("cursor", cursor != null ? cursor : Long.MAX_VALUE)
+                        .addValue("limit", limit),
+                ROW_MAPPER);
+    }
+
+    // 유저별 게시글 수 / 마지막 작성 시간 (유저의 샤드마다 GROUP BY 한 번씩, 보정 작업에서 사용), 아카이브된 게시글 포함
+    public List<PostStats> postStatsByUsers(Collection<Long> userIds) {
+        Map<Integer, List<Long>> byShard = userIds.stream().collect(Collectors.groupingBy(router::shardOfUser));
+        List<CompletableFuture<List<PostStats>>> futures = new ArrayList<>();
+        byShard.forEach((shard, ids) -> futures.add(CompletableFuture.supplyAsync(() -> shards.get(shard).query(
+                "SELECT user_id, COUNT(*) AS post_count, MAX(created_at) AS last_post_at FROM ("
+                        + "SELECT user_id, created_at FROM boards WHERE user_id IN (:ids) AND state = 'ACTIVE' "
+                        + "UNION ALL "
+                        + "SELECT user_id, created_at FROM boards_archive WHERE user_id IN (:ids) AND state = 'ACTIVE'"
+                        + ") posts GROUP BY user_id",
+                Map.of("ids", ids),
+                (rs, rowNum) -> {
+                    Timestamp lastPostAt = rs.getTimestamp("last_post_at");
+                    return new PostStats(rs.getLong("user_id"), rs.getLong("post_count"),
+                            lastPostAt != null ? lastPostAt.toLocalDateTime() : null);
+                }), fanOut)));
+        return futures.stream().flatMap(future -> future.join().stream()).collect(Collectors.toList());
+    }
+
+    public int update(long boardId, String title, String content) {
+        return shardOfBoard(boardId).update(
+                "UPDATE boards SET title = :title, content = :content, updated_at = :now WHERE id = :id AND state = 'ACTIVE'",
+                new MapSqlParameterSource()
+                        .addValue("id", boardId)
+                        .addValue("title", title)
+                        .addValue("content", content)
+                        .addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    // 행은 남겨 두고 INACTIVE 로 표시 (BoardArchiver 가 아카이브로 옮김)
+    public int delete(long boardId) {
+        return shardOfBoard(boardId).update(
+                "UPDATE boards SET state = 'INACTIVE', updated_at = :now WHERE id = :id AND state = 'ACTIVE'",
+                new MapSqlParameterSource()
+                        .addValue("id", boardId)
+                        .addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    public int deleteArchived(long boardId) {
+        return shardOfBoard(boardId).update(
+                "UPDATE boards_archive SET state = 'INACTIVE', updated_at = :now WHERE id = :id AND state = 'ACTIVE'",
+                new MapSqlParameterSource()
+                        .addValue("id", boardId)
+                        .addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    /**
+     * 전체 피드: cursor(이전 페이지 마지막 id)보다 작은 id를 최신순으로 limit 개
+     */
+    public List<BoardRow> feed(Long cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cursor", cursor != null ? cursor : Long.MAX_VALUE)
+                .addValue("limit", limit);
+        List<CompletableFuture<List<BoardRow>>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.query(
+                        "SELECT " + COLUMNS + " FROM boards WHERE id < :cursor AND state = 'ACTIVE' ORDER BY id DESC LIMIT :limit",
+                        params, ROW_MAPPER), fanOut))
+                .collect(Collectors.toList());
+
+        // 샤드마다 이미 id 내림차순이므로 각 목록의 맨 앞끼리만 비교
+        PriorityQueue<ShardCursor> heads = new PriorityQueue<>((a, b) -> Long.compare(b.head().getId(), a.head().getId()));
+        for (CompletableFuture<List<BoardRow>> future : futures) {
+            List<BoardRow> rows = future.join();
+            if (!rows.isEmpty()) {
+                heads.add(new ShardCursor(rows));
+            }
+        }
+
+        List<BoardRow> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            ShardCursor head = heads.poll();
+            merged.add(head.head());
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    // 샤드별 행 수 (모니터링/테스트용)
+    public Map<Integer, Long> countByShard() {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            counts.put(i, shards.get(i).getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM boards", Long.class));
+        }
+        return counts;
+    }
+
+    public ShardRouter getRouter() {
+        return router;
+    }
+
+    // 샤드마다 돌아야 하는 배경 작업용 (BoardArchiver)
+    public List<DataSource> getDataSources() {
+        return dataSources;
+    }
+
+    private NamedParameterJdbcTemplate shardOfBoard(long boardId) {
+        return shards.get(router.shardOfBoard(boardId));
+    }
+
+    private static final class ShardCursor {
+        private final List<BoardRow> rows;
+        private int position;
+
+        ShardCursor(List<BoardRow> rows) {
+            this.rows = rows;
+        }
+
+        BoardRow head() {
+            return rows.get(position);
+        }
+
+        boolean advance() {
+            return ++position < rows.size();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.study.board.common.sharding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 샤딩 설정 (sharding.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+    private boolean enabled = false;
+
+    // 샤드 DB에 boards 테이블이 없으면 생성 (로컬/테스트용)
+    private boolean initializeSchema = false;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+
+        // 이 샤드가 맡는 버킷 범위 (ex. "0-511"), 모든 샤드에서 비워두면 균등 분할
+        private String buckets;
+    }
+}
@@ -0,0 +1,69 @@
+package com.study.board.common.startup;
+
+import com.study.board.common.warmup.Warmup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 기동 후 처음 N개 요청의 응답시간 (actuator 제외)
+ * <p>
+ * N개가 모이면 p50 / p99 / max 를 한 번 로그로 남기고 이후로는 기록하지 않음.
+ * warmup.enabled 를 켜고 / 끄고 기동해서 두 로그를 비교하면 워밍업 효과를 볼 수 있음.
+ * startup.first-requests=0 이면 기록하지 않음
+ */
+@Slf4j
+@Component
+public class FirstRequestsRecorder {
+    private final Warmup warmup;
+    private final int capacity;
+    private final AtomicLongArray samples;      // 나노초 단위
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger recorded = new AtomicInteger();
+
+    public FirstRequestsRecorder(Warmup warmup, @Value("${startup.first-requests:1000}") int capacity) {
+        this.warmup = warmup;
+        this.capacity = capacity;
+        this.samples = new AtomicLongArray(Math.max(capacity, 0));
+    }
+
+    public boolean isRecording() {
+        return next.get() < capacity;
+    }
+
+    public void record(long nanos) {
+        int index = next.getAndIncrement();
+        if (index >= capacity) {
+            return;
+        }
+        samples.set(index, nanos);
+        // 자리를 먼저 잡은 요청이 늦게 끝날 수 있으므로 마지막으로 기록한 스레드가 출력
+        if (recorded.incrementAndGet() == capacity) {
+            report();
+        }
+    }
+
+    private void report() {
+        long[] sorted = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        log.info("STARTUP first {} requests : p50 {} ms, p99 {} ms, max {} ms (warmup {}, {} ms)",
+                capacity,
+                String.format("%.2f", percentileMillis(sorted, 50)),
+                String.format("%.2f", percentileMillis(sorted, 99)),
+                String.format("%.2f", sorted[capacity - 1] / 1_000_000.0),
+                warmup.isEnabled() ? "on" : "off",
+                warmup.getDurationMillis());
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.study.board.common.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 단계별 소요시간 로그
+ * <p>
+ * JVM 시작 -> 컨텍스트 시작 -> ready -> 첫 요청 처리 완료 까지의 시간과
+ * 단계(step)별 누적 시간, 가장 오래 걸린 빈 생성 목록을 출력함.
+ * startup.exit-on-ready=true 이면 ready 직후 종료 (AppCDS 클래스 목록 수집용, build.gradle 의 cdsClassList 참고)
+ */
+@Slf4j
+@Component
+public class StartupTimelineLogger {
+    private static final int SLOWEST_BEANS = 10;
+
+    private final Instant jvmStart = Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime());
+    private final AtomicBoolean firstRequestHandled = new AtomicBoolean(false);
+
+    @Value("${startup.timeline.enabled:false}")
+    private boolean enabled;
+
+    @Value("${startup.exit-on-ready:false}")
+    private boolean exitOnReady;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        ApplicationStartup startup = context.getApplicationStartup();
+
+        if (enabled && startup instanceof BufferingApplicationStartup) {
+            // drain 하면 버퍼가 비워지므로 기동 이후 메모리를 잡고 있지 않음
+            report(((BufferingApplicationStartup) startup).drainBufferedTimeline());
+        }
+        log.info("STARTUP jvm -> ready : {} ms", Duration.between(jvmStart, Instant.now()).toMillis());
+
+        if (exitOnReady) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    // 첫 요청 처리 완료 시점 (time-to-first-request)
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (!firstRequestHandled.get() && firstRequestHandled.compareAndSet(false, true)) {
+            log.info("STARTUP jvm -> first request handled : {} ms ({} {})",
+                    Duration.between(jvmStart, Instant.now()).toMillis(), event.getMethod(), event.getRequestUrl());
+        }
+    }
+
+    private void report(org.springframework.boot.context.metrics.buffering.StartupTimeline timeline) {
+        List<TimelineEvent> events = timeline.getEvents();
+        log.info("STARTUP jvm -> context start : {} ms", Duration.between(jvmStart, timeline.getStartTime()).toMillis());
+
+        // 단계별 누적 시간 (중첩된 단계는 상위 단계에도 포함됨)
+        Map<String, Long> phases = new TreeMap<>();
+        for (TimelineEvent event : events) {
+            phases.merge(event.getStartupStep().getName(), event.getDuration().toMillis(), Long::sum);
+        }
+        phases.forEach((name, millis) -> log.info("STARTUP phase {} : {} ms", name, millis));
+
+        List<TimelineEvent> slowestBeans = events.stream()
+                .filter(event -> "spring.beans.instantiate".equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .collect(Collectors.toList());
+        for (TimelineEvent event : slowestBeans) {
+            event.getStartupStep().getTags().forEach(tag -> {
+                if ("beanName".equals(tag.getKey())) {
+                    log.info("STARTUP bean {} : {} ms", tag.getValue(), event.getDuration().toMillis());
+                }
+            });
+        }
+    }
+}
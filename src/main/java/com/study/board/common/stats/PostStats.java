@@ -0,0 +1,17 @@
+package com.study.board.common.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * boards 에서 다시 계산한 유저별 게시글 수 / 마지막 작성 시간 (UserPostStatsReconciler)
+ */
+@Getter
+@AllArgsConstructor
+public class PostStats {
+    private final long userId;
+    private final long postCount;
+    private final LocalDateTime lastPostAt;
+}
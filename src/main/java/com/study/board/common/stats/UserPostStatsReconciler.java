@@ -0,0 +1,192 @@
+package com.study.board.common.stats;
+
+import com.study.board.common.sharding.ShardedBoardStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * user_post_stats 보정 작업
+ * <p>
+ * member 를 id 순서로 batch-size 명씩 읽고, 그 유저들의 게시글 수 / 마지막 작성 시간을 boards(+ boards_archive) 에서 다시 계산해서
+ * 다른 값만 고침 (한 번에 전체를 집계하지 않고 batch 마다 pause 만큼 쉬어서 운영 트래픽에 주는 부담을 줄임).
+ * 고칠 때는 읽어 둔 post_count / updated_at 이 그대로일 때만 덮어써서, 그 사이에 작성/삭제로 바뀐 카운터는 건드리지 않음 (다음 실행에서 다시 확인).
+ * 샤드 모드에서는 boards 를 유저의 샤드에서 집계함.
+ */
+@Slf4j
+@Component
+public class UserPostStatsReconciler {
+    private static final String SELECT_USERS = "SELECT id FROM member WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_STATS =
+            "SELECT user_id, post_count, last_post_at, updated_at FROM user_post_stats WHERE user_id IN (:ids)";
+    // 아카이브로 옮겨진 게시글도 유저의 글이므로 함께 셈
+    private static final String DERIVE_STATS =
+            "SELECT user_id, COUNT(*) AS post_count, MAX(created_at) AS last_post_at FROM ("
+                    + "SELECT user_id, created_at FROM boards WHERE user_id IN (:ids) AND state = 'ACTIVE'"
+                    + " UNION ALL"
+                    + " SELECT user_id, created_at FROM boards_archive WHERE user_id IN (:ids) AND state = 'ACTIVE'"
+                    + ") posts GROUP BY user_id";
+    private static final String UPDATE_STATS =
+            "UPDATE user_post_stats SET post_count = ?, last_post_at = ?, updated_at = ? WHERE user_id = ? AND post_count = ? AND updated_at = ?";
+    // 그 사이에 작성으로 행이 생겼으면 그 값을 둠
+    private static final String INSERT_STATS =
+            "INSERT INTO user_post_stats (user_id, post_count, last_post_at, updated_at) VALUES (?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE user_id = user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Optional<ShardedBoardStore> shardedBoardStore;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public UserPostStatsReconciler(JdbcTemplate jdbcTemplate,
+                                   NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                   Optional<ShardedBoardStore> shardedBoardStore,
+                                   @Value("${user-post-stats.reconcile.batch-size:1000}") int batchSize,
+                                   @Value("${user-post-stats.reconcile.pause:50ms}") Duration pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.shardedBoardStore = shardedBoardStore;
+        this.batchSize = batchSize;
+        this.pauseMillis = pause.toMillis();
+    }
+
+    @Scheduled(cron = "${user-post-stats.reconcile.cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 고친 행 수 반환 (이미 실행 중이면 -1)
+     */
+    public long reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+        long start = System.currentTimeMillis();
+        long scanned = 0;
+        long fixed = 0;
+        try {
+            long lastUserId = Long.MIN_VALUE;
+            while (true) {
+                List<Long> userIds = jdbcTemplate.queryForList(SELECT_USERS, Long.class, lastUserId, batchSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                fixed += reconcileBatch(userIds);
+                scanned += userIds.size();
+                lastUserId = userIds.get(userIds.size() - 1);
+
+                if (userIds.size() < batchSize) {
+                    break;
+                }
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("RECONCILE user_post_stats failed after {} users : {}", scanned, e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        log.info("RECONCILE user_post_stats : {} users scanned, {} rows fixed ({} ms)", scanned, fixed, System.currentTimeMillis() - start);
+        return fixed;
+    }
+
+    private long reconcileBatch(List<Long> userIds) {
+        // 현재 값을 먼저 읽고 나서 boards 를 집계 (그 사이의 작성/삭제는 updated_at 이 바뀌어 덮어쓰지 않음)
+        Map<Long, Current> current = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_STATS, Map.of("ids", userIds), rs -> {
+            current.put(rs.getLong("user_id"), new Current(
+                    rs.getLong("post_count"),
+                    toLocalDateTime(rs.getTimestamp("last_post_at")),
+                    rs.getTimestamp("updated_at")));
+        });
+        Map<Long, PostStats> derived = derive(userIds);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        for (Long userId : userIds) {
+            PostStats stats = derived.getOrDefault(userId, new PostStats(userId, 0, null));
+            Timestamp lastPostAt = stats.getLastPostAt() != null ? Timestamp.valueOf(stats.getLastPostAt()) : null;
+            Current row = current.get(userId);
+            if (row == null) {
+                if (stats.getPostCount() > 0) {
+                    inserts.add(new Object[]{userId, stats.getPostCount(), lastPostAt, now});
+                }
+            } else if (row.differsFrom(stats)) {
+                updates.add(new Object[]{stats.getPostCount(), lastPostAt, now, userId, row.postCount, row.updatedAt});
+            }
+        }
+
+        long fixed = 0;
+        if (!updates.isEmpty()) {
+            for (int count : jdbcTemplate.batchUpdate(UPDATE_STATS, updates)) {
+                fixed += count > 0 ? 1 : 0;
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_STATS, inserts);
+            fixed += inserts.size();
+        }
+        return fixed;
+    }
+
+    private Map<Long, PostStats> derive(List<Long> userIds) {
+        Map<Long, PostStats> derived = new HashMap<>();
+        if (shardedBoardStore.isPresent()) {
+            shardedBoardStore.get().postStatsByUsers(userIds).forEach(stats -> derived.put(stats.getUserId(), stats));
+            return derived;
+        }
+        namedParameterJdbcTemplate.query(DERIVE_STATS, Map.of("ids", userIds), rs -> {
+            long userId = rs.getLong("user_id");
+            derived.put(userId, new PostStats(userId, rs.getLong("post_count"), toLocalDateTime(rs.getTimestamp("last_post_at"))));
+        });
+        return derived;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static final class Current {
+        private final long postCount;
+        private final LocalDateTime lastPostAt;
+        private final Timestamp updatedAt;
+
+        private Current(long postCount, LocalDateTime lastPostAt, Timestamp updatedAt) {
+            this.postCount = postCount;
+            this.lastPostAt = lastPostAt;
+            this.updatedAt = updatedAt;
+        }
+
+        // 작성 시각은 카운터 갱신 시각과 게시글 created_at 이 조금 다르므로 초 단위로 비교
+        private boolean differsFrom(PostStats stats) {
+            return postCount != stats.getPostCount()
+                    || !Objects.equals(truncate(lastPostAt), truncate(stats.getLastPostAt()));
+        }
+
+        private static LocalDateTime truncate(LocalDateTime time) {
+            return time != null ? time.truncatedTo(ChronoUnit.SECONDS) : null;
+        }
+    }
+}
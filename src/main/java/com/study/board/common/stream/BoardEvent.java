@@ -0,0 +1,42 @@
+package com.study.board.common.stream;
+
+import lombok.Getter;
+
+/**
+ * 게시글 스트림(GET /board/stream)으로 보내는 이벤트
+ * data 는 발행할 때 한 번만 직렬화해서 모든 구독자가 같은 문자열을 보냄
+ */
+@Getter
+public class BoardEvent {
+    public enum Type {
+        CREATED("board-created"),
+        UPDATED("board-updated"),
+        DELETED("board-deleted"),
+        RESET("reset"),             // 놓친 이벤트를 재전송할 수 없음, 클라이언트는 피드를 다시 조회해야 함
+        HEARTBEAT(null);            // 연결 유지용 주석 (id 없음, 재전송 대상 아님)
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String getEventName() {
+            return eventName;
+        }
+    }
+
+    static final BoardEvent HEARTBEAT = new BoardEvent(-1, Type.HEARTBEAT, null, null);
+
+    private final long id;
+    private final Type type;
+    private final Long boardId;
+    private final String data;      // JSON
+
+    BoardEvent(long id, Type type, Long boardId, String data) {
+        this.id = id;
+        this.type = type;
+        this.boardId = boardId;
+        this.data = data;
+    }
+}
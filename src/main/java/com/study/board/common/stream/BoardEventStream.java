@@ -0,0 +1,381 @@
+package com.study.board.common.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.model.board.GetBoardRes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 작성/수정/삭제 이벤트를 SSE 구독자에게 전달 (피드 폴링 대신 사용)
+ * <p>
+ * - 발행은 커밋 이후에만 하고, 발행하는 스레드는 구독자별 큐에 넣기만 함 (전송은 sender 스레드가 구독자별로 하나씩)
+ * - 구독자 큐(board.stream.buffer-size)가 가득 차면 느린 구독자로 보고 연결을 끊음 (다른 구독자와 발행자는 기다리지 않음)
+ * - write 가 board.stream.send-timeout 보다 오래 걸리면(소켓 버퍼가 가득 찬 클라이언트) 구독자를 목록에서 빼고,
+ *   막힌 스레드 대신 sender 스레드를 하나 더 띄워서 다른 구독자에게 계속 보냄 (최대 board.stream.max-stuck-writes 개).
+ *   막힌 write 는 Tomcat 의 write timeout(server.tomcat.connection-timeout)이 끝내고, 그 스레드가 연결을 닫은 뒤 풀이 다시 줄어듦
+ * - 최근 이벤트(board.stream.replay-size)를 메모리에 남겨서 Last-Event-ID 이후 이벤트를 다시 보냄.
+ *   이미 밀려난 id 이거나 재시작 전 id 이면 reset 이벤트를 보내고, 클라이언트는 피드를 다시 조회함
+ * - 어느 노드에서 바뀌었든 모든 노드의 구독자가 받도록, 이벤트는 outbox 를 읽은 BoardChangeRelay 가 발행함
+ * <p>
+ * 메트릭: board.stream.subscribers, board.stream.slow-disconnects, board.stream.send-timeouts, board.stream.stuck-writes
+ */
+@Slf4j
+@Component
+public class BoardEventStream {
+    /**
+     * 구독자에게 실제로 보내는 부분 (운영은 SseEmitter, 테스트는 메모리)
+     */
+    public interface Sink {
+        void send(BoardEvent event) throws IOException;
+
+        void close();
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final long sendTimeoutNanos;
+    private final int senderThreads;
+    private final int maxStuckWrites;
+    private final ThreadPoolExecutor senders;
+    private final AtomicInteger stuckWrites = new AtomicInteger();
+    private final Counter slowDisconnects;
+    private final Counter sendTimeouts;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Object lock = new Object();       // id 발급 + replay 기록 + 구독자 큐 적재 순서를 맞춤
+    private final BoardEvent[] replay;
+    private final long firstId;
+    private long lastId;
+
+    public BoardEventStream(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${board.stream.buffer-size:256}") int bufferSize,
+                            @Value("${board.stream.replay-size:1024}") int replaySize,
+                            @Value("${board.stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${board.stream.sender-threads:4}") int senderThreads,
+                            @Value("${board.stream.timeout:30m}") Duration timeout,
+                            @Value("${board.stream.send-timeout:5s}") Duration sendTimeout,
+                            @Value("${board.stream.max-stuck-writes:64}") int maxStuckWrites) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.senderThreads = senderThreads;
+        this.maxStuckWrites = maxStuckWrites;
+        this.replay = new BoardEvent[replaySize];
+        // 재시작 후에도 이전 프로세스의 id 보다 크게 시작해서, 예전 Last-Event-ID 는 reset 으로 처리되게 함
+        this.lastId = System.currentTimeMillis() * 1000;
+        this.firstId = lastId + 1;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 크기는 senderThreads + 막힌 write 수 (resizeSenders)
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "board-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("board.stream.subscribers", subscribers, Set::size).register(meterRegistry);
+        this.slowDisconnects = Counter.builder("board.stream.slow-disconnects").register(meterRegistry);
+        this.sendTimeouts = Counter.builder("board.stream.send-timeouts").register(meterRegistry);
+        Gauge.builder("board.stream.stuck-writes", stuckWrites, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * SSE 연결 생성, lastEventId 는 Last-Event-ID 헤더 (없으면 null)
+     */
+    public SseEmitter open(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = subscribe(lastEventId, new SseSink(emitter));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    public Subscriber subscribe(Long lastEventId, Sink sink) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new BaseException(BaseResponseStatus.SERVICE_OVERLOADED);
+        }
+        Subscriber subscriber = new Subscriber(sink, bufferSize);
+        synchronized (lock) {
+            if (lastEventId != null && lastEventId != lastId) {
+                long oldest = Math.max(firstId, lastId - replay.length + 1);       // replay 에 남아 있는 가장 오래된 id
+                boolean replayable = lastEventId < lastId && lastEventId + 1 >= oldest && lastId - lastEventId <= bufferSize;
+                if (replayable) {
+                    for (long id = lastEventId + 1; id <= lastId; id++) {
+                        subscriber.queue.offer(replay[slot(id)]);
+                    }
+                } else {
+                    subscriber.queue.offer(new BoardEvent(lastId, BoardEvent.Type.RESET, null, "{}"));
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return subscriber;
+    }
+
+    public void publishCreated(GetBoardRes board) {
+        publishAfterCommit(BoardEvent.Type.CREATED, board.getBoardId(), board);
+    }
+
+    public void publishUpdated(GetBoardRes board) {
+        publishAfterCommit(BoardEvent.Type.UPDATED, board.getBoardId(), board);
+    }
+
+    public void publishDeleted(Long boardId) {
+        publishAfterCommit(BoardEvent.Type.DELETED, boardId, Map.of("boardId", String.valueOf(boardId)));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // 연결 유지 + 끊긴 클라이언트 정리 (보내다 실패하면 제거됨)
+    @Scheduled(fixedDelayString = "${board.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, BoardEvent.HEARTBEAT);
+        }
+    }
+
+    // send-timeout 보다 오래 걸리고 있는 write 를 찾아서 구독자를 빼고, 막힌 스레드 대신 sender 스레드를 하나 더 띄움
+    @Scheduled(fixedDelayString = "${board.stream.write-check-interval:1000}")
+    public void checkWrites() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.writeStartedAt.get();
+            if (started != Subscriber.IDLE && started != Subscriber.STUCK && now - started > sendTimeoutNanos
+                    && subscriber.writeStartedAt.compareAndSet(started, Subscriber.STUCK)) {
+                sendTimeouts.increment();
+                remove(subscriber);     // 연결은 write 가 끝난 뒤 그 스레드에서 닫음
+                stuckWrites.incrementAndGet();
+                resizeSenders();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Subscriber subscriber : subscribers) {
+            disconnect(subscriber);
+        }
+        senders.shutdown();
+    }
+
+    // 롤백된 변경은 보내지 않도록 트랜잭션 안이면 커밋 이후에 발행
+    private void publishAfterCommit(BoardEvent.Type type, Long boardId, Object payload) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("BOARD STREAM serialization failed: {}", e.toString());
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(type, boardId, data);
+                }
+            });
+        } else {
+            publish(type, boardId, data);
+        }
+    }
+
+    void publish(BoardEvent.Type type, Long boardId, String data) {
+        List<Subscriber> overflowed = null;
+        synchronized (lock) {
+            BoardEvent event = new BoardEvent(++lastId, type, boardId, data);
+            replay[slot(event.getId())] = event;
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(event)) {
+                    if (overflowed == null) {
+                        overflowed = new ArrayList<>();
+                    }
+                    overflowed.add(subscriber);
+                }
+            }
+        }
+        if (overflowed != null) {
+            for (Subscriber subscriber : overflowed) {
+                slowDisconnects.increment();
+                disconnect(subscriber);
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            schedule(subscriber);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, BoardEvent event) {
+        if (!subscriber.queue.offer(event)) {
+            slowDisconnects.increment();
+            disconnect(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private int slot(long id) {
+        return (int) Math.floorMod(id, (long) replay.length);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RuntimeException e) {      // 종료 중
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    // 구독자 하나의 큐를 비움, 같은 구독자는 동시에 한 스레드만 보냄
+    private void drain(Subscriber subscriber) {
+        try {
+            BoardEvent event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                send(subscriber, event);
+            }
+        } catch (Exception e) {
+            remove(subscriber);     // 클라이언트가 끊음 / write timeout
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        if (subscriber.closed) {
+            subscriber.closeSink();
+        } else if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);       // 마지막 poll 이후에 들어온 이벤트
+        }
+    }
+
+    // write 시작 시간을 남겨서 checkWrites 가 막힌 write 를 찾을 수 있게 함
+    private void send(Subscriber subscriber, BoardEvent event) throws IOException {
+        subscriber.writeStartedAt.set(System.nanoTime());
+        try {
+            subscriber.sink.send(event);
+        } finally {
+            if (subscriber.writeStartedAt.getAndSet(Subscriber.IDLE) == Subscriber.STUCK) {
+                stuckWrites.decrementAndGet();      // 대신 띄웠던 스레드를 다시 줄임
+                resizeSenders();
+            }
+        }
+    }
+
+    // senderThreads + 막힌 write 수 (max-stuck-writes 까지), 줄일 때 남는 스레드는 일이 끝나면 종료됨
+    private void resizeSenders() {
+        synchronized (senders) {
+            int size = senderThreads + Math.min(stuckWrites.get(), maxStuckWrites);
+            if (size > senders.getMaximumPoolSize()) {
+                senders.setMaximumPoolSize(size);
+                senders.setCorePoolSize(size);      // 큐에 쌓인 drain 을 위해 바로 스레드를 띄움
+            } else if (size < senders.getCorePoolSize()) {
+                senders.setCorePoolSize(size);
+                senders.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    // 느린 구독자 / 종료: 목록에서 빼고, sender 스레드에서 연결을 닫음
+    // (write 중이면 그 drain 이 write 를 끝낸 뒤에 닫음, SseEmitter 는 send 하는 동안 잠겨 있어서 다른 스레드에서 complete 하면 같이 멈춤)
+    private void disconnect(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.queue.clear();
+        schedule(subscriber);
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+    }
+
+    public static final class Subscriber {
+        private final Sink sink;
+        private final ArrayBlockingQueue<BoardEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private static final long IDLE = 0;
+        private static final long STUCK = Long.MIN_VALUE;
+
+        private final AtomicBoolean sinkClosed = new AtomicBoolean();
+        private final AtomicLong writeStartedAt = new AtomicLong(IDLE);     // write 중이면 시작 시간(nanoTime), checkWrites 가 막힌 것으로 보면 STUCK
+        private volatile boolean closed;
+
+        private Subscriber(Sink sink, int bufferSize) {
+            this.sink = sink;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        private void closeSink() {
+            if (sinkClosed.compareAndSet(false, true)) {
+                sink.close();
+            }
+        }
+    }
+
+    private static final class SseSink implements Sink {
+        private final SseEmitter emitter;
+
+        private SseSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(BoardEvent event) throws IOException {
+            if (event.getType() == BoardEvent.Type.HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getId()))
+                    .name(event.getType().getEventName())
+                    .data(event.getData(), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void close() {
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                // 이미 끝난 연결
+            }
+        }
+    }
+}
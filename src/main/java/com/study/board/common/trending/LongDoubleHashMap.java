@@ -0,0 +1,70 @@
+package com.study.board.common.trending;
+
+/**
+ * long -> double 해시맵 (키 처리는 LongHashTable), TopKTracker 후보 점수용
+ */
+class LongDoubleHashMap extends LongHashTable {
+    private double[] values;
+
+    LongDoubleHashMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    double get(long key, double defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    // 더한 뒤의 값을 반환
+    double addTo(long key, double delta) {
+        int slot = insert(key);
+        if (slot < 0) {
+            values[-slot - 1] = delta;
+            return delta;
+        }
+        values[slot] += delta;
+        return values[slot];
+    }
+
+    void put(long key, double value) {
+        int slot = insert(key);
+        values[slot < 0 ? -slot - 1 : slot] = value;
+    }
+
+    void scaleAll(double factor) {
+        for (int slot = 0; slot < capacity(); slot++) {
+            if (used(slot)) {
+                values[slot] *= factor;
+            }
+        }
+    }
+
+    // keep(key, value)가 false 인 항목을 모두 제거
+    void retain(LongDoublePredicate keep) {
+        retainSlots(slot -> keep.test(keyAt(slot), values[slot]));
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new double[capacity];
+    }
+
+    @Override
+    Object values() {
+        return values;
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void copyValue(Object from, int fromSlot, int toSlot) {
+        values[toSlot] = ((double[]) from)[fromSlot];
+    }
+
+    interface LongDoublePredicate {
+        boolean test(long key, double value);
+    }
+}
@@ -0,0 +1,139 @@
+package com.study.board.common.trending;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * long 키 해시 테이블의 키 부분 (open addressing, linear probing)
+ * <p>
+ * 탐색, 삭제(backward shift, tombstone 없음), 확장은 여기서만 구현하고 값 배열은 하위 클래스가 원시 타입으로 가짐.
+ * 게시글 id / 값을 박싱하지 않기 위해 사용. 동기화는 호출하는 쪽(TopKTracker)에서 함
+ */
+abstract class LongHashTable {
+    private static final long EMPTY = Long.MIN_VALUE;     // 게시글 id로 쓰이지 않는 값
+
+    private long[] keys;
+    private int size;
+    private int mask;
+
+    LongHashTable(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(4, expectedSize * 2) - 1) << 1);
+    }
+
+    /**
+     * 값 배열을 capacity 크기로 새로 만듦 (상위 생성자에서도 호출되므로 하위 클래스의 값 필드에 초기값을 두지 않음)
+     */
+    abstract void allocateValues(int capacity);
+
+    // 지금 값 배열 (새로 만들기 전에 옛 배열을 넘겨받는 용도)
+    abstract Object values();
+
+    abstract void moveValue(int from, int to);
+
+    abstract void copyValue(Object from, int fromSlot, int toSlot);
+
+    final int size() {
+        return size;
+    }
+
+    final int capacity() {
+        return keys.length;
+    }
+
+    final boolean used(int slot) {
+        return keys[slot] != EMPTY;
+    }
+
+    final long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    // key 의 슬롯, 없으면 -1
+    final int find(long key) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * key 의 슬롯, 없으면 새 슬롯을 만들고 -(slot + 1) 반환 (새 슬롯의 값은 호출하는 쪽에서 씀)
+     */
+    final int insert(long key) {
+        if ((size + 1) * 2 > keys.length) {
+            rebuild(keys.length << 1, slot -> true);
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        size++;
+        return -(slot + 1);
+    }
+
+    final void remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return;
+        }
+        // 뒤따르는 항목을 당겨서 탐색 경로가 끊기지 않게 함
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slotOf(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                moveValue(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    /**
+     * keep(slot)이 false 인 항목을 모두 제거 (판단은 다시 만들기 전의 배열 기준)
+     */
+    final void retainSlots(IntPredicate keep) {
+        rebuild(keys.length, keep);
+    }
+
+    private void rebuild(int capacity, IntPredicate keep) {
+        long[] oldKeys = keys;
+        int[] kept = new int[size];
+        int count = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY && keep.test(i)) {
+                kept[count++] = i;
+            }
+        }
+        Object oldValues = values();
+        allocate(capacity);
+        for (int i = 0; i < count; i++) {
+            int from = kept[i];
+            copyValue(oldValues, from, -insert(oldKeys[from]) - 1);
+        }
+    }
+
+    private int slotOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        size = 0;
+        allocateValues(capacity);
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.board.common.trending;
+
+/**
+ * long -> int 해시맵 (키 처리는 LongHashTable), 힙에 있는 게시글 id의 위치 조회용
+ */
+class LongIntHashMap extends LongHashTable {
+    private int[] values;
+
+    LongIntHashMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    int get(long key, int defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    void put(long key, int value) {
+        int slot = insert(key);
+        values[slot < 0 ? -slot - 1 : slot] = value;
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new int[capacity];
+    }
+
+    @Override
+    Object values() {
+        return values;
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void copyValue(Object from, int fromSlot, int toSlot) {
+        values[toSlot] = ((int[]) from)[fromSlot];
+    }
+}
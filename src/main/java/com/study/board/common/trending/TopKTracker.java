@@ -0,0 +1,166 @@
+package com.study.board.common.trending;
+
+import java.util.Arrays;
+
+/**
+ * 시간 감쇠 점수 기준 상위 K개 (forward decay)
+ * <p>
+ * 이벤트 점수를 weight * e^((t - landmark) / tau) 로 기록하면 점수를 매번 감쇠시키지 않아도
+ * 모든 항목의 상대 순위가 "지금 기준으로 감쇠한 점수"의 순위와 같음.
+ * 그래서 이벤트가 오면 해당 항목 점수만 올리고 min-heap에서 한 번 sift 하면 됨 (O(log K)).
+ * 지수가 너무 커지면 landmark를 옮기면서 전체 점수를 한 번에 줄임.
+ * <p>
+ * 스레드 안전하지 않음 (TrendingBoards가 잠금을 잡고 호출)
+ */
+class TopKTracker {
+    private static final double RESCALE_EXPONENT = 30;     // e^30 ~ 1e13, double 정밀도 안에서 landmark 이동
+
+    private final int k;
+    private final double tauMillis;
+    private final int maxTracked;
+
+    private final LongDoubleHashMap scores;     // 후보 전체의 점수
+    private final LongIntHashMap heapIndex;     // 힙에 있는 id -> 힙 배열 위치
+    private final long[] heapIds;
+    private final double[] heapScores;
+    private int heapSize;
+    private long landmark;
+
+    TopKTracker(int k, long halfLifeMillis, int maxTracked, long now) {
+        this.k = k;
+        this.tauMillis = halfLifeMillis / Math.log(2);
+        this.maxTracked = maxTracked;
+        this.scores = new LongDoubleHashMap(Math.min(maxTracked, 1 << 16));
+        this.heapIndex = new LongIntHashMap(k);
+        this.heapIds = new long[k];
+        this.heapScores = new double[k];
+        this.landmark = now;
+    }
+
+    /**
+     * 이벤트 반영
+     * @return 이 이벤트로 id가 상위 K에 새로 들어왔으면 true
+     */
+    boolean record(long id, double weight, long now) {
+        if ((now - landmark) / tauMillis > RESCALE_EXPONENT) {
+            rescale(now);
+        }
+        double score = scores.addTo(id, weight * Math.exp((now - landmark) / tauMillis));
+
+        int index = heapIndex.get(id, -1);
+        if (index >= 0) {
+            heapScores[index] = score;
+            siftDown(index);        // 점수는 증가만 하므로 아래로만 이동
+            return false;
+        }
+        if (heapSize < k) {
+            heapIds[heapSize] = id;
+            heapScores[heapSize] = score;
+            heapIndex.put(id, heapSize);
+            siftUp(heapSize++);
+            pruneIfNeeded();
+            return true;
+        }
+        if (score <= heapScores[0]) {
+            pruneIfNeeded();
+            return false;
+        }
+        evicted(heapIds[0]);
+        heapIndex.remove(heapIds[0]);
+        heapIds[0] = id;
+        heapScores[0] = score;
+        heapIndex.put(id, 0);
+        siftDown(0);
+        pruneIfNeeded();
+        return true;
+    }
+
+    boolean contains(long id) {
+        return heapIndex.get(id, -1) >= 0;
+    }
+
+    /**
+     * 상위 K개 id를 점수 내림차순으로 (K가 작으므로 복사 후 정렬)
+     */
+    long[] top() {
+        Integer[] order = new Integer[heapSize];
+        for (int i = 0; i < heapSize; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(heapScores[b], heapScores[a]));
+        long[] ids = new long[heapSize];
+        for (int i = 0; i < heapSize; i++) {
+            ids[i] = heapIds[order[i]];
+        }
+        return ids;
+    }
+
+    /**
+     * 지금 시점 기준으로 감쇠한 점수 (스냅샷 저장용)
+     */
+    double currentScore(long id, long now) {
+        return scores.get(id, 0) * Math.exp(-(now - landmark) / tauMillis);
+    }
+
+    /**
+     * 힙에서 밀려난 id (TrendingBoards가 요약 정보를 지우도록 오버라이드)
+     */
+    protected void evicted(long id) {
+    }
+
+    private void rescale(long now) {
+        double factor = Math.exp(-(now - landmark) / tauMillis);
+        scores.scaleAll(factor);
+        for (int i = 0; i < heapSize; i++) {
+            heapScores[i] *= factor;
+        }
+        landmark = now;
+    }
+
+    // 후보가 너무 많아지면 힙 최솟값보다 낮은 후보를 정리 (다시 이벤트가 오면 0부터 시작)
+    private void pruneIfNeeded() {
+        if (scores.size() <= maxTracked || heapSize == 0) {
+            return;
+        }
+        double threshold = heapScores[0];
+        scores.retain((id, score) -> score >= threshold || heapIndex.get(id, -1) >= 0);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heapScores[parent] <= heapScores[index]) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= heapSize) {
+                return;
+            }
+            int right = left + 1;
+            int smallest = right < heapSize && heapScores[right] < heapScores[left] ? right : left;
+            if (heapScores[index] <= heapScores[smallest]) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = heapIds[a];
+        double score = heapScores[a];
+        heapIds[a] = heapIds[b];
+        heapScores[a] = heapScores[b];
+        heapIds[b] = id;
+        heapScores[b] = score;
+        heapIndex.put(heapIds[a], a);
+        heapIndex.put(heapIds[b], b);
+    }
+}
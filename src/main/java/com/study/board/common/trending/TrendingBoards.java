@@ -0,0 +1,178 @@
+package com.study.board.common.trending;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.board.model.board.GetBoardRes;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 게시글 (GET /board/trending)
+ * <p>
+ * 단건 조회 / 작성 이벤트마다 시간 감쇠 점수를 올리고 상위 trending.size 개만 메모리에 유지함 (DB 조회 없음).
+ * 응답에 쓸 게시글 요약은 상위 목록에 있는 게시글만 보관하고, 수정되면 다시 읽은 내용으로 바꾸고 삭제되면 지움
+ * (어느 노드에서 바뀌었든 outbox 를 읽는 BoardChangeRelay 가 refresh / remove 를 호출함).
+ * 주기적으로 파일에 스냅샷을 남겨 재시작 후에도 이어서 집계함.
+ */
+@Slf4j
+@Component
+public class TrendingBoards {
+    private final ObjectMapper objectMapper;
+    private final Path snapshotFile;
+    private final long halfLifeMillis;
+    private final double readWeight;
+    private final double writeWeight;
+
+    private final Map<Long, GetBoardRes> summaries = new HashMap<>();       // 상위 목록에 있는 게시글만
+    private final TopKTracker tracker;
+
+    public TrendingBoards(ObjectMapper objectMapper,
+                          @Value("${trending.size:100}") int size,
+                          @Value("${trending.half-life:6h}") Duration halfLife,
+                          @Value("${trending.read-weight:1}") double readWeight,
+                          @Value("${trending.write-weight:5}") double writeWeight,
+                          @Value("${trending.max-tracked:200000}") int maxTracked,
+                          @Value("${trending.snapshot-file:data/trending.json}") String snapshotFile) {
+        this.objectMapper = objectMapper;
+        this.snapshotFile = Paths.get(snapshotFile);
+        this.halfLifeMillis = halfLife.toMillis();
+        this.readWeight = readWeight;
+        this.writeWeight = writeWeight;
+        this.tracker = new TopKTracker(size, halfLifeMillis, maxTracked, System.currentTimeMillis()) {
+            @Override
+            protected void evicted(long id) {
+                summaries.remove(id);
+            }
+        };
+    }
+
+    public void recordRead(GetBoardRes board) {
+        record(board, readWeight);
+    }
+
+    public void recordWrite(GetBoardRes board) {
+        record(board, writeWeight);
+    }
+
+    // 점수 내림차순
+    public synchronized List<GetBoardRes> trending() {
+        long[] ids = tracker.top();
+        List<GetBoardRes> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            GetBoardRes board = summaries.get(id);
+            if (board != null) {
+                result.add(board);
+            }
+        }
+        return result;
+    }
+
+    // 요약을 보관 중인 게시글인지 (수정 이벤트에서 다시 읽을지 판단)
+    public synchronized boolean hasSummary(Long boardId) {
+        return summaries.containsKey(boardId);
+    }
+
+    // 수정된 내용으로 교체, 점수는 그대로 (보관 중인 게시글만)
+    public synchronized void refresh(GetBoardRes board) {
+        summaries.replace(board.getBoardId(), board);
+    }
+
+    // 삭제된 게시글은 점수가 남아 있어도 목록에서 뺌
+    public synchronized void remove(Long boardId) {
+        summaries.remove(boardId);
+    }
+
+    private synchronized void record(GetBoardRes board, double weight) {
+        long id = board.getBoardId();
+        tracker.record(id, weight, System.currentTimeMillis());
+        if (tracker.contains(id)) {
+            summaries.put(id, board);       // 이벤트마다 최신 내용으로 갱신
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trending.snapshot-interval:60000}", initialDelayString = "${trending.snapshot-interval:60000}")
+    @PreDestroy
+    public void snapshot() {
+        Snapshot snapshot = new Snapshot();
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            snapshot.setSavedAt(now);
+            for (long id : tracker.top()) {
+                GetBoardRes board = summaries.get(id);
+                if (board != null) {
+                    snapshot.getEntries().add(new Snapshot.Entry(tracker.currentScore(id, now), board));
+                }
+            }
+        }
+
+        // 파일 쓰기는 잠금 밖에서, 임시 파일에 쓴 뒤 교체
+        try {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "trending", ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("TRENDING snapshot failed: {}", e.getMessage());
+        }
+    }
+
+    @PostConstruct
+    public void restore() {
+        if (!Files.exists(snapshotFile)) {
+            return;
+        }
+        try {
+            Snapshot snapshot = objectMapper.readValue(snapshotFile.toFile(), Snapshot.class);
+            long now = System.currentTimeMillis();
+            double decay = Math.pow(0.5, (double) Math.max(0, now - snapshot.getSavedAt()) / halfLifeMillis);     // 꺼져 있던 동안의 감쇠
+            synchronized (this) {
+                for (Snapshot.Entry entry : snapshot.getEntries()) {
+                    tracker.record(entry.getBoard().getBoardId(), entry.getScore() * decay, now);
+                    summaries.put(entry.getBoard().getBoardId(), entry.getBoard());
+                }
+            }
+            log.info("TRENDING restored {} boards from {}", snapshot.getEntries().size(), snapshotFile);
+        } catch (IOException e) {
+            log.warn("TRENDING snapshot restore failed: {}", e.getMessage());
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class Snapshot {
+        private long savedAt;
+        private List<Entry> entries = new ArrayList<>();
+
+        @Getter
+        @Setter
+        @NoArgsConstructor
+        static class Entry {
+            private double score;
+            private GetBoardRes board;
+
+            Entry(double score, GetBoardRes board) {
+                this.score = score;
+                this.board = board;
+            }
+        }
+    }
+}
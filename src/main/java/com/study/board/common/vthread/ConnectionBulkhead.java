@@ -0,0 +1,93 @@
+package com.study.board.common.vthread;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀 크기에 맞춘 요청 동시 처리 한도 (ConnectionBulkheadFilter)
+ * <p>
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 수가 동시 처리 수를 제한하지만, 가상 스레드 모드에서는 제한이 없어서
+ * 요청이 전부 Hikari 커넥션 대기열(connection-timeout 30초)에 쌓이고 그동안 영속성 컨텍스트 / 요청 본문이 메모리에 남음.
+ * 그래서 커넥션 풀 최대 크기 * permits-per-connection 개까지만 처리하고, 나머지는 max-wait 동안만 기다린 뒤 503 으로 거절함.
+ * 가상 스레드 모드가 아니거나 bulkhead.enabled=false 이면 항상 통과.
+ * <p>
+ * 메트릭: bulkhead.permits, bulkhead.available, bulkhead.rejected
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class ConnectionBulkhead {
+    private final boolean enabled;
+    private final int permits;
+    private final long maxWaitNanos;
+    private final Semaphore semaphore;
+    private final Counter rejected;
+
+    public ConnectionBulkhead(VirtualThreadProperties properties,
+                              DataSource dataSource,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int configuredPoolSize,
+                              MeterRegistry meterRegistry) {
+        VirtualThreadProperties.Bulkhead bulkhead = properties.getBulkhead();
+        this.enabled = properties.isEnabled() && bulkhead.isEnabled();
+        this.permits = bulkhead.getPermits() > 0
+                ? bulkhead.getPermits()
+                : poolSize(dataSource, configuredPoolSize) * bulkhead.getPermitsPerConnection();
+        this.maxWaitNanos = bulkhead.getMaxWait().toNanos();
+        this.semaphore = new Semaphore(permits, true);      // 먼저 기다린 요청부터
+
+        Gauge.builder("bulkhead.permits", this, ConnectionBulkhead::getPermits).register(meterRegistry);
+        Gauge.builder("bulkhead.available", semaphore, Semaphore::availablePermits).register(meterRegistry);
+        this.rejected = Counter.builder("bulkhead.rejected").register(meterRegistry);
+
+        if (enabled) {
+            log.info("CONNECTION BULKHEAD {} permits", permits);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public boolean tryAcquire() throws InterruptedException {
+        if (!enabled) {
+            return true;
+        }
+        if (semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void release() {
+        if (enabled) {
+            semaphore.release();
+        }
+    }
+
+    // 실제 풀에서 읽고, 라우팅 / 프록시 때문에 알 수 없으면 설정값 사용
+    private static int poolSize(DataSource dataSource, int configuredPoolSize) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (Exception e) {
+            log.debug("CONNECTION BULKHEAD pool size unknown : {}", e.getMessage());
+        }
+        return configuredPoolSize;
+    }
+}
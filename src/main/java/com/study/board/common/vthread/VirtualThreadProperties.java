@@ -0,0 +1,36 @@
+package com.study.board.common.vthread;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 요청 처리 설정 (virtual-threads.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadProperties {
+    // Tomcat 요청을 가상 스레드에서 처리 (JDK 21 이상에서만, 아니면 기동 실패)
+    private boolean enabled = false;
+
+    private Bulkhead bulkhead = new Bulkhead();
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+        // 가상 스레드 모드에서 동시에 처리할 요청 수를 커넥션 풀 크기에 맞춰 제한
+        private boolean enabled = true;
+
+        // 동시 처리 한도, 0 이면 커넥션 풀 최대 크기 * permits-per-connection
+        private int permits = 0;
+
+        // 요청 시간 중 커넥션을 잡지 않는 부분(인증, 직렬화)이 있으므로 커넥션 하나에 요청 몇 개까지 들일지
+        private int permitsPerConnection = 2;
+
+        // 한도가 차 있을 때 기다리는 최대 시간, 넘으면 503
+        private Duration maxWait = Duration.ofMillis(100);
+    }
+}
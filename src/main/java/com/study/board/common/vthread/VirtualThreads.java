@@ -0,0 +1,44 @@
+package com.study.board.common.vthread;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 executor 생성
+ * 프로젝트는 Java 11 로 컴파일하므로 JDK 21 API(Thread.ofVirtual, Executors.newThreadPerTaskExecutor)는 리플렉션으로 호출함
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 executor (스레드 이름은 namePrefix + 번호)
+     *
+     * @throws IllegalStateException JDK 21 미만
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("virtual threads require JDK 21+ (running " + System.getProperty("java.version") + ")", e);
+        }
+    }
+}
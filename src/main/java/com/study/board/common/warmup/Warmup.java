@@ -0,0 +1,235 @@
+package com.study.board.common.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.board.common.cache.BoardFragmentCache;
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponse;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.entity.User;
+import com.study.board.model.board.BoardListView;
+import com.study.board.model.board.GetBoardRes;
+import com.study.board.model.jwt.PostJwtRes;
+import com.study.board.model.user.GetUserRes;
+import com.study.board.repository.UserRepository;
+import com.study.board.service.BoardService;
+import com.study.board.util.JwtUtils;
+import com.study.board.util.SHA256;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 직후 JIT 워밍업
+ * <p>
+ * ready 이후 별도 스레드에서 요청이 지나가는 경로를 합성 데이터로 반복 호출함.
+ * - 인증: 비밀번호 암호화, 토큰 발급/검증(정상/위조 토큰), 로그인 이메일 조회, 토큰 인증(유저 조회)
+ * - 피드: 목록 조회(전체 / 필드 선택 / summary / 정규화), 응답 직렬화(BaseResponse, 조각 조립, 에러 응답)
+ * 끝날 때까지 health 의 warmup 항목이 OUT_OF_SERVICE 라서 /actuator/health/readiness 가 503 을 응답함
+ * (로드밸런서는 readiness 가 UP 이 된 뒤에 트래픽을 보냄).
+ * DB에 쓰는 경로(글쓰기, 로그인 감사 로그, 요청 제한 카운트)는 호출하지 않음.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(WarmupProperties.class)
+public class Warmup implements HealthIndicator {
+    private static final long SYNTHETIC_USER_ID = -1L;      // 존재하지 않는 유저 (인증 실패 경로까지 워밍업)
+    private static final String SYNTHETIC_EMAIL = "warmup@warmup.invalid";
+
+    private final WarmupProperties properties;
+    private final JwtUtils jwtUtils;
+    private final UserRepository userRepository;
+    private final BoardService boardService;
+    private final BoardFragmentCache boardFragmentCache;
+    private final ObjectMapper objectMapper;
+    private final int summaryContentLength;
+
+    private volatile boolean done;
+    private volatile long durationMillis = -1;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public Warmup(WarmupProperties properties,
+                  JwtUtils jwtUtils,
+                  UserRepository userRepository,
+                  BoardService boardService,
+                  BoardFragmentCache boardFragmentCache,
+                  ObjectMapper objectMapper,
+                  @Value("${board.summary.content-length:100}") int summaryContentLength) {
+        this.properties = properties;
+        this.jwtUtils = jwtUtils;
+        this.userRepository = userRepository;
+        this.boardService = boardService;
+        this.boardFragmentCache = boardFragmentCache;
+        this.objectMapper = objectMapper;
+        this.summaryContentLength = summaryContentLength;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            done = true;
+            log.info("WARMUP disabled");
+            return;
+        }
+        Thread thread = new Thread(this::run, "warmup");
+        thread.setDaemon(true);     // 워밍업 중에 종료되어도 기다리지 않음
+        thread.start();
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 워밍업에 걸린 시간, 끝나지 않았거나 꺼져 있으면 -1
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public Health health() {
+        if (!done) {
+            return Health.outOfService().withDetail("state", "warming up").build();
+        }
+        return Health.up()
+                .withDetail("enabled", properties.isEnabled())
+                .withDetail("durationMillis", durationMillis)
+                .build();
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "warmup-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < properties.getThreads(); i++) {
+                executor.execute(this::exercise);
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("WARMUP timed out after {} ms, marking ready anyway", properties.getTimeout().toMillis());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        } finally {
+            durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            done = true;
+            log.info("WARMUP finished in {} ms ({} threads, {} iterations, {} db iterations, {} failures)",
+                    durationMillis, properties.getThreads(), properties.getIterations(), properties.getDbIterations(), failures.get());
+        }
+    }
+
+    private void exercise() {
+        List<GetBoardRes> boards = syntheticBoards();
+        String forgedToken = jwtUtils.generateToken(SYNTHETIC_USER_ID, User.Role.ROLE_USER.toString()).get("accessToken") + "x";
+
+        for (int i = 0; i < properties.getIterations() && !Thread.currentThread().isInterrupted(); i++) {
+            guard(() -> exerciseAuth(forgedToken));
+            guard(() -> exerciseSerialization(boards));
+        }
+        for (int i = 0; i < properties.getDbIterations() && !Thread.currentThread().isInterrupted(); i++) {
+            guard(this::exerciseDatabase);
+        }
+    }
+
+    // 토큰 발급 -> 검증, 위조 토큰 검증 실패
+    private void exerciseAuth(String forgedToken) throws Exception {
+        SHA256.encrypt(SYNTHETIC_EMAIL);
+        Map<String, String> tokens = jwtUtils.generateToken(SYNTHETIC_USER_ID, User.Role.ROLE_USER.toString());
+        jwtUtils.getUserId(tokens.get("accessToken"));
+        expectFailure(() -> jwtUtils.getUserId(forgedToken));
+        objectMapper.writeValueAsBytes(new BaseResponse<>(new PostJwtRes(SYNTHETIC_USER_ID, tokens.get("accessToken"), tokens.get("refreshToken"))));
+    }
+
+    // 피드 응답과 같은 모양의 직렬화 (조각 -> 조립, 필드 선택 목록, 에러 응답)
+    private void exerciseSerialization(List<GetBoardRes> boards) throws Exception {
+        List<byte[]> fragments = new ArrayList<>(boards.size());
+        for (GetBoardRes board : boards) {
+            fragments.add(objectMapper.writeValueAsBytes(board));
+        }
+        boardFragmentCache.successResponse(fragments);
+        boardFragmentCache.jsonResponse(boards);
+        boardFragmentCache.errorResponse(BaseResponseStatus.INVALID_TOKEN);
+        objectMapper.writeValueAsBytes(new BaseResponse<>("warmup"));
+    }
+
+    // 로그인 이메일 조회, 토큰 인증의 유저 조회, 피드 첫 페이지 (읽기만 함)
+    private void exerciseDatabase() {
+        String token = jwtUtils.generateToken(SYNTHETIC_USER_ID, User.Role.ROLE_USER.toString()).get("accessToken");
+        userRepository.findByEmail(SYNTHETIC_EMAIL);
+        expectFailure(() -> jwtUtils.getAuthentication(token));
+
+        PageRequest firstPage = PageRequest.of(0, 20);
+        boardService.viewBoards(firstPage, BoardListView.of(null, null, null, summaryContentLength), null);
+        // 샤드 모드에서는 필드 선택 목록이 INVALID_FIELDS (실패 경로도 워밍업 대상이므로 실패로 세지 않음)
+        expectFailure(() -> boardService.viewBoards(firstPage, BoardListView.of(null, "summary", null, summaryContentLength), null));
+        expectFailure(() -> boardService.viewBoards(firstPage, BoardListView.of("boardId,title,writer.name", null, null, summaryContentLength), null));
+        boardFragmentCache.jsonResponse(boardService.viewNormalizedBoards(firstPage, null));
+    }
+
+    private List<GetBoardRes> syntheticBoards() {
+        GetUserRes writer = new GetUserRes(User.builder()
+                .name("warmup")
+                .age(20)
+                .email(SYNTHETIC_EMAIL)
+                .build());
+        List<GetBoardRes> boards = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            boards.add(GetBoardRes.builder()
+                    .boardId(-i)
+                    .writer(writer)
+                    .title("warmup title " + i)
+                    .content("warmup content ".repeat(10))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return boards;
+    }
+
+    private void guard(ThrowingRunnable runnable) {
+        try {
+            runnable.run();
+        } catch (Exception e) {
+            if (failures.getAndIncrement() == 0) {      // 같은 실패가 반복되므로 처음 한 번만 로그
+                log.warn("WARMUP step failed: {}", e.toString());
+            }
+        }
+    }
+
+    private static void expectFailure(Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (BaseException expected) {
+            // 실패 경로도 워밍업 대상
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.board.common.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 기동 직후 워밍업 설정 (warmup.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+    private boolean enabled = true;
+
+    // 토큰 발급/검증, 직렬화처럼 DB를 쓰지 않는 경로의 스레드별 반복 횟수 (C2 컴파일 임계치를 넘길 만큼)
+    private int iterations = 10000;
+
+    // 로그인 조회 / 토큰 인증 / 피드 조회처럼 DB를 쓰는 경로의 스레드별 반복 횟수
+    private int dbIterations = 200;
+
+    // 동시에 돌릴 스레드 수 (커넥션 풀도 이만큼 채워짐)
+    private int threads = 4;
+
+    // 이 시간이 지나면 끝나지 않았어도 ready 로 전환
+    private Duration timeout = Duration.ofSeconds(60);
+}
@@ -1,14 +1,28 @@
 package com.study.board.controller;
 
+import com.study.board.common.cache.BoardFragmentCache;
 import com.study.board.common.exception.BaseException;
+import com.study.board.common.idempotency.IdempotencyStore;
 import com.study.board.common.response.BaseResponse;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.common.response.BaseResponseWriter;
+import com.study.board.common.stream.BoardEventStream;
+import com.study.board.model.board.BoardListView;
+import com.study.board.model.board.GetBoardBatchRes;
 import com.study.board.model.board.GetBoardRes;
 import com.study.board.model.board.PostBoardReq;
+import com.study.board.model.user.AuthUser;
 import com.study.board.service.BoardService;
-import com.study.board.util.JwtUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 
 import java.util.List;
 
@@ -16,15 +30,34 @@ import java.util.List;
 @RestController
 public class BoardController {
     private final BoardService boardService;
-    private final JwtUtils jwtUtils;
+    private final IdempotencyStore idempotencyStore;
+    private final BoardFragmentCache boardFragmentCache;
+    private final BoardEventStream boardEventStream;
+
+    @Value("${board.summary.content-length:100}")
+    private int summaryContentLength;
+
+    // 인증은 JwtFilter 에서 끝나고, 작성/수정/삭제는 필터가 만든 AuthUser 를 그대로 받음 (토큰 / 유저를 다시 읽지 않음)
 
     // 게시글 생성
+    // Idempotency-Key 헤더가 있으면 같은 키로 재시도한 요청은 다시 저장하지 않고 첫 요청의 응답을 돌려줌
     @PostMapping("/board/add")
-    public BaseResponse<String> createBoard(@RequestBody PostBoardReq postBoardReq) {
-        Long userIdx = jwtUtils.getUserIdV2();
+    public BaseResponse<String> createBoard(@AuthenticationPrincipal AuthUser authUser,
+                                            @RequestBody PostBoardReq postBoardReq,
+                                            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return saveBoard(authUser, postBoardReq);
+        }
+        try {
+            return idempotencyStore.execute(authUser.getId(), idempotencyKey, () -> saveBoard(authUser, postBoardReq));
+        } catch (BaseException e) {
+            return new BaseResponse<>(e.getStatus());
+        }
+    }
 
+    private BaseResponse<String> saveBoard(AuthUser authUser, PostBoardReq postBoardReq) {
         try {
-            boardService.saveBoard(userIdx, postBoardReq);
+            boardService.saveBoard(authUser, postBoardReq);
             return new BaseResponse<>("게시물을 등록하였습니다.");
         } catch (BaseException e) {
             return new BaseResponse<>(e.getStatus());
@@ -32,11 +65,10 @@ public class BoardController {
     }
 
     // 게시글 수정
-    public BaseResponse<String> updateBoard(@RequestBody PostBoardReq postBoardReq, @RequestParam("boardId") Long boardIdx) {
-        Long userIdx = jwtUtils.getUserIdV2();
-
+    public BaseResponse<String> updateBoard(@AuthenticationPrincipal AuthUser authUser,
+                                            @RequestBody PostBoardReq postBoardReq, @RequestParam("boardId") Long boardIdx) {
         try {
-            boardService.updateBoard(userIdx, boardIdx, postBoardReq);
+            boardService.updateBoard(authUser, boardIdx, postBoardReq);
             return new BaseResponse<>("게시물을 수정하였습니다.");
         } catch (BaseException e) {
             return new BaseResponse<>(e.getStatus());
@@ -45,11 +77,9 @@ public class BoardController {
 
     // 게시글 삭제
     @DeleteMapping("/board")
-    public BaseResponse<String> deleteBoard(@RequestParam("boardId") Long boardIdx) {
-        Long userIdx = jwtUtils.getUserIdV2();
-
+    public BaseResponse<String> deleteBoard(@AuthenticationPrincipal AuthUser authUser, @RequestParam("boardId") Long boardIdx) {
         try {
-            boardService.deleteBoard(userIdx, boardIdx);
+            boardService.deleteBoard(authUser, boardIdx);
             return new BaseResponse<>("게시물을 삭제하였습니다.");
         } catch (BaseException e) {
             return new BaseResponse<>(e.getStatus());
@@ -57,22 +87,38 @@ public class BoardController {
     }
 
     // 게시글 전체 조회
-    @GetMapping("/")
-    public BaseResponse<List<GetBoardRes>> viewBoards(Pageable pageable) {
-        jwtUtils.getUserIdV2();
+    // 본문은 서비스에서 캐시된 JSON 조각으로 조립한 byte[] 그대로 응답
+    // fields=title,writer.name / view=summary / contentLength=100 으로 필요한 필드만 조회 가능
+    // 샤드 모드에서는 cursor=이전 페이지 마지막 boardId 로 다음 페이지 조회 (page 번호 / 최신순 외 정렬 / 필드 선택은 INVALID_FIELDS)
+    // shape=normalized 이면 게시글에는 writerId 만 두고 작성자는 users 맵에 한 번씩만 담아서 응답 (fields / view 와 함께 쓸 수 없음)
+    @GetMapping(value = "/", produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] viewBoards(Pageable pageable,
+                             @RequestParam(value = "fields", required = false) String fields,
+                             @RequestParam(value = "view", required = false) String view,
+                             @RequestParam(value = "contentLength", required = false) Integer contentLength,
+                             @RequestParam(value = "cursor", required = false) Long cursor,
+                             @RequestParam(value = "shape", required = false) String shape) {
         try {
-            List<GetBoardRes> boardResList = boardService.viewBoards(pageable);
-            return new BaseResponse<>(boardResList);
+            BoardListView listView = BoardListView.of(fields, view, contentLength, summaryContentLength);
+            if ("normalized".equals(shape)) {
+                if (listView != null) {
+                    throw new BaseException(BaseResponseStatus.INVALID_FIELDS);
+                }
+                return boardFragmentCache.jsonResponse(boardService.viewNormalizedBoards(pageable, cursor));
+            }
+            if (shape != null && !"embedded".equals(shape)) {
+                throw new BaseException(BaseResponseStatus.INVALID_FIELDS);
+            }
+            return boardService.viewBoards(pageable, listView, cursor);
         } catch (BaseException e) {
-            return new BaseResponse<>(e.getStatus());
+            return boardFragmentCache.errorResponse(e.getStatus());
         }
     }
 
 
     // 게시글 단일 조회
+    @GetMapping("/board")
     public BaseResponse<GetBoardRes> viewSingleBoard(@RequestParam("boardId") Long boardIdx) {
-        jwtUtils.getUserIdV2();
-
         try {
             GetBoardRes boardRes = boardService.viewSingleBoard(boardIdx);
             return new BaseResponse<>(boardRes);
@@ -80,4 +126,33 @@ public class BoardController {
             return new BaseResponse<>(e.getStatus());
         }
     }
+
+    // 게시글 다건 조회 (ex. /board/batch?ids=3,1,2)
+    @GetMapping("/board/batch")
+    public BaseResponse<GetBoardBatchRes> viewBoardsByIds(@RequestParam("ids") List<Long> boardIds) {
+        try {
+            return new BaseResponse<>(boardService.viewBoardsByIds(boardIds));
+        } catch (BaseException e) {
+            return new BaseResponse<>(e.getStatus());
+        }
+    }
+
+    // 인기 게시글 조회
+    @GetMapping("/board/trending")
+    public BaseResponse<List<GetBoardRes>> viewTrendingBoards() {
+        return new BaseResponse<>(boardService.viewTrendingBoards());
+    }
+
+    // 게시글 작성/수정/삭제 스트림 (SSE)
+    // 재연결 시 Last-Event-ID 헤더로 놓친 이벤트를 다시 받고, 재전송할 수 없으면 reset 이벤트를 받음 (피드를 다시 조회)
+    @GetMapping(value = "/board/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoards(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                   HttpServletResponse response) throws IOException {
+        try {
+            return boardEventStream.open(lastEventId);
+        } catch (BaseException e) {
+            BaseResponseWriter.write(response, e.getStatus());     // 구독자 수 초과
+            return null;
+        }
+    }
 }
@@ -6,17 +6,21 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
 @Getter
 @Entity
+@DynamicUpdate      // 수정 시 바뀐 컬럼만 update (동시에 삭제된 게시글의 state 를 ACTIVE 로 되돌리지 않도록)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "boards")
+@Table(name = "boards", indexes = @Index(name = "idx_boards_state_created_at", columnList = "state, created_at"))      // 아카이브 대상 조회 (BoardArchiver)
 public class Board  extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "time-ordered")
+    @GenericGenerator(name = "time-ordered", strategy = "com.study.board.common.id.TimeOrderedIdentifierGenerator")
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -0,0 +1,45 @@
+package com.study.board.entity;
+
+import com.study.board.common.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * boards 에서 옮겨 온 게시글 (BoardArchiver)
+ * 삭제(INACTIVE)됐거나 보관 기간이 지난 게시글을 원래 id / 작성 시간 그대로 보관함.
+ * 피드에는 나오지 않고 단건/다건 조회에서만 읽음. 내용 수정은 할 수 없고 삭제만 할 수 있음
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "boards_archive", indexes = @Index(name = "idx_boards_archive_user_id", columnList = "user_id"))      // 게시글 수 보정 (UserPostStatsReconciler)
+public class BoardArchive {
+    @Id
+    private Long id;        // boards 의 id 그대로
+
+    @Column(nullable = false, length = 50)
+    private String title;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 10)
+    private BaseEntity.State state;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updateAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,54 @@
+package com.study.board.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 outbox
+ * 게시글/유저를 변경하는 트랜잭션 안에서 함께 저장되고, 각 노드가 seq 순서대로 읽어서 로컬 캐시를 비움
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "cache_outbox", indexes = @Index(name = "idx_cache_outbox_created_at", columnList = "created_at"))      // 오래된 이벤트 정리 (deleteCreatedBefore)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 10)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private ChangeType changeType;      // 삭제만 캐시에서 지우고, 작성/수정은 다시 읽어서 갱신할 수 있도록
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum EntityType {
+        BOARD, USER
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    @Builder
+    public OutboxEvent(EntityType entityType, ChangeType changeType, Long entityId) {
+        this.entityType = entityType;
+        this.changeType = changeType;
+        this.entityId = entityId;
+    }
+}
@@ -5,6 +5,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.management.relation.Role;
 import javax.persistence.*;
@@ -12,10 +17,14 @@ import javax.persistence.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "member")
+@Table(name = "member", uniqueConstraints = @UniqueConstraint(name = "uk_member_email", columnNames = "email"))      // 이메일 중복 가입 방지 (UserService.isDuplicateEmail 이 EXIST_EMAIL 로 변환)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)     // 2차 캐시 (ehcache.xml)
+@NaturalIdCache     // email -> id 도 캐시
 public class User extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "time-ordered")
+    @GenericGenerator(name = "time-ordered", strategy = "com.study.board.common.id.TimeOrderedIdentifierGenerator")
     private Long id;
 
     @Column(name = "name", nullable = false, length = 10)
@@ -24,6 +33,7 @@ public class User extends BaseEntity {
     @Column(name = "age", nullable = false)
     private int age;
 
+    @NaturalId
     @Column(name = "email", nullable = false, length = 50)
     private String email;
 
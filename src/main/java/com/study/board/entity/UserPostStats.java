@@ -0,0 +1,32 @@
+package com.study.board.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 유저별 게시글 수 / 마지막 작성 시간
+ * 프로필 조회마다 boards 를 COUNT(*) 하지 않도록 게시글 작성/삭제 트랜잭션에서 함께 갱신함 (UserPostStatsRepository)
+ * 어긋난 값은 UserPostStatsReconciler 가 boards 에서 다시 계산해서 맞춤
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_post_stats")
+public class UserPostStats {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    @Column(name = "last_post_at")
+    private LocalDateTime lastPostAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;        // 보정 작업의 비교 기준 (갱신될 때마다 바뀜)
+}
@@ -0,0 +1,49 @@
+package com.study.board.model.board;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 목록 조회에서 선택할 수 있는 필드 (fields= 파라미터 이름 -> JPQL 식)
+ * 여기에 없는 이름은 쿼리에 들어가지 않음
+ */
+public enum BoardField {
+    BOARD_ID("boardId", "b.id", false),
+    TITLE("title", "b.title", false),
+    CONTENT("content", "b.content", false),
+    CREATED_AT("createdAt", "b.createdAt", false),
+    WRITER_EMAIL("writer.email", "u.email", true),
+    WRITER_NAME("writer.name", "u.name", true),
+    WRITER_AGE("writer.age", "u.age", true);
+
+    private final String path;
+    private final String expression;
+    private final boolean writer;       // member 조인이 필요한 필드
+
+    BoardField(String path, String expression, boolean writer) {
+        this.path = path;
+        this.expression = expression;
+        this.writer = writer;
+    }
+
+    public static Optional<BoardField> ofPath(String path) {
+        return Arrays.stream(values()).filter(field -> field.path.equals(path)).findFirst();
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public boolean isWriter() {
+        return writer;
+    }
+
+    // writer.name -> name
+    public String getName() {
+        return writer ? path.substring("writer.".length()) : path;
+    }
+}
@@ -0,0 +1,75 @@
+package com.study.board.model.board;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 목록 조회에서 가져올 필드와 본문 길이 (fields= / view= / contentLength=)
+ * <p>
+ * fields=title,writer.name : 지정한 필드만 (writer 는 writer.* 전체)
+ * view=summary             : boardId, title, createdAt, writer.name + 잘린 content
+ * contentLength=n          : content를 DB에서 n자까지만 가져옴
+ */
+@Getter
+public class BoardListView {
+    private static final Set<BoardField> SUMMARY = EnumSet.of(
+            BoardField.BOARD_ID, BoardField.TITLE, BoardField.CONTENT, BoardField.CREATED_AT, BoardField.WRITER_NAME);
+    private static final int MAX_CONTENT_LENGTH = 500;
+
+    private final Set<BoardField> fields;
+    private final Integer contentLength;        // null이면 자르지 않음
+
+    private BoardListView(Set<BoardField> fields, Integer contentLength) {
+        this.fields = fields;
+        this.contentLength = contentLength;
+    }
+
+    /**
+     * 파라미터가 하나도 없으면 null (기존 전체 응답)
+     */
+    public static BoardListView of(String fields, String view, Integer contentLength, int summaryContentLength) {
+        if (fields == null && view == null && contentLength == null) {
+            return null;
+        }
+        if (contentLength != null && (contentLength < 1 || contentLength > MAX_CONTENT_LENGTH)) {
+            throw new BaseException(BaseResponseStatus.INVALID_FIELDS);
+        }
+
+        if (fields != null) {
+            return new BoardListView(parse(fields), contentLength);
+        }
+        if ("summary".equals(view)) {
+            return new BoardListView(SUMMARY, contentLength != null ? contentLength : summaryContentLength);
+        }
+        if (view == null || "full".equals(view)) {
+            return new BoardListView(EnumSet.allOf(BoardField.class), contentLength);
+        }
+        throw new BaseException(BaseResponseStatus.INVALID_FIELDS);
+    }
+
+    public boolean needsWriter() {
+        return fields.stream().anyMatch(BoardField::isWriter);
+    }
+
+    private static Set<BoardField> parse(String fields) {
+        Set<BoardField> result = EnumSet.noneOf(BoardField.class);
+        for (String path : fields.split(",")) {
+            path = path.trim();
+            if (path.equals("writer")) {
+                result.add(BoardField.WRITER_EMAIL);
+                result.add(BoardField.WRITER_NAME);
+                result.add(BoardField.WRITER_AGE);
+            } else if (!path.isEmpty()) {
+                result.add(BoardField.ofPath(path).orElseThrow(() -> new BaseException(BaseResponseStatus.INVALID_FIELDS)));
+            }
+        }
+        if (result.isEmpty()) {
+            throw new BaseException(BaseResponseStatus.INVALID_FIELDS);
+        }
+        return result;
+    }
+}
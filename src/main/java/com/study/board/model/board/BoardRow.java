@@ -0,0 +1,20 @@
+package com.study.board.model.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * boards / boards_archive 한 행 (BoardStore 조회 결과, 작성자는 id만)
+ */
+@Getter
+@AllArgsConstructor
+public class BoardRow {
+    private final Long id;
+    private final Long userId;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updateAt;
+}
@@ -0,0 +1,16 @@
+package com.study.board.model.board;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class GetBoardBatchRes {
+    private List<GetBoardRes> boards;       // 요청한 순서대로 (없는 게시글은 빠짐)
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private List<Long> missingIds;          // 없거나 삭제된 게시글 id (boardId 와 같은 문자열)
+}
@@ -0,0 +1,23 @@
+package com.study.board.model.board;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정규화된 목록(shape=normalized)의 게시글, 작성자는 id만 가지고 내용은 GetBoardPageRes.users 에 있음
+ */
+@Getter
+@AllArgsConstructor
+public class GetBoardItemRes {
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long boardId;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long writerId;        // GetBoardPageRes.users 의 키와 같은 문자열
+    private String title;
+    private String content;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.study.board.model.board;
+
+import com.study.board.model.user.GetUserRes;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정규화된 목록 응답 (GET /?shape=normalized)
+ * 같은 작성자의 글이 여러 개여도 작성자 정보는 users 에 한 번만 들어감
+ */
+@Getter
+@AllArgsConstructor
+public class GetBoardPageRes {
+    private List<GetBoardItemRes> boards;
+    private Map<Long, GetUserRes> users;        // writerId -> 작성자 (탈퇴 등으로 없는 작성자는 빠짐)
+}
@@ -1,5 +1,7 @@
 package com.study.board.model.board;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.study.board.model.user.GetUserRes;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,13 +14,16 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 public class GetBoardRes {
+    @JsonSerialize(using = ToStringSerializer.class)      // id는 2^53 보다 커서 JSON 에는 문자열로 내보냄 (JavaScript number 로는 정확히 표현되지 않음)
+    private Long boardId;
     private GetUserRes writer;
     private String title;
     private String content;
     private LocalDateTime createdAt;
 
     @Builder
-    public GetBoardRes(GetUserRes writer, String title, String content, LocalDateTime createdAt) {
+    public GetBoardRes(Long boardId, GetUserRes writer, String title, String content, LocalDateTime createdAt) {
+        this.boardId = boardId;
         this.writer = writer;
         this.title = title;
         this.content = content;
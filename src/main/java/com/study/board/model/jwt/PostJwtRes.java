@@ -1,5 +1,7 @@
 package com.study.board.model.jwt;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,6 +10,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Getter
 public class PostJwtRes {
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long userId;
     private String accessToken;
     private String refreshToken;
@@ -0,0 +1,33 @@
+package com.study.board.model.user;
+
+import com.study.board.common.entity.BaseEntity;
+import com.study.board.entity.User;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * 인증된 유저 (JwtFilter 가 토큰을 한 번 검증하고 유저를 한 번 조회해서 인증 객체의 principal 로 넣어둠)
+ * 컨트롤러는 @AuthenticationPrincipal 로 받아서 서비스에 넘기고, 서비스는 같은 요청에서 유저를 다시 조회하지 않음.
+ * 작성자 응답(GetUserRes)에 필요한 값까지 담음
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthUser implements Serializable {
+    private final Long id;
+    private final User.Role role;
+    private final BaseEntity.State state;
+    private final String name;
+    private final String email;
+    private final int age;
+
+    public static AuthUser of(User user) {
+        return new AuthUser(user.getId(), user.getRole(), user.getState(), user.getName(), user.getEmail(), user.getAge());
+    }
+
+    public boolean isActive() {
+        return state == BaseEntity.State.ACTIVE;
+    }
+}
@@ -1,19 +1,42 @@
 package com.study.board.model.user;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.study.board.entity.User;
+import com.study.board.entity.UserPostStats;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class GetUserRes {
     private String email;
     private String name;
     private int age;
 
+    // 유저 조회에서만 채움 (게시글 작성자로 나갈 때는 null 이라 응답에 없음)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long postCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime lastPostAt;
+
     public GetUserRes(User user){
         this.email = user.getEmail();
         this.name = user.getName();
         this.age = user.getAge();
     }
 
+    public GetUserRes(AuthUser authUser) {
+        this.email = authUser.getEmail();
+        this.name = authUser.getName();
+        this.age = authUser.getAge();
+    }
+
+    // stats 가 없으면 글을 쓴 적 없는 유저
+    public GetUserRes(User user, UserPostStats stats) {
+        this(user);
+        this.postCount = stats != null ? stats.getPostCount() : 0L;
+        this.lastPostAt = stats != null ? stats.getLastPostAt() : null;
+    }
+
     public GetUserRes() { }
 }
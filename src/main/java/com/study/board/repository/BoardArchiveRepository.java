@@ -0,0 +1,28 @@
+package com.study.board.repository;
+
+import com.study.board.common.entity.BaseEntity;
+import com.study.board.entity.BoardArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 옮기는 작업은 BoardArchiver 가 JDBC(INSERT ... SELECT / DELETE)로 함
+@Repository
+public interface BoardArchiveRepository extends JpaRepository<BoardArchive, Long> {
+    Optional<BoardArchive> findByIdAndState(Long id, BaseEntity.State state);
+
+    List<BoardArchive> findAllByIdInAndState(Collection<Long> ids, BaseEntity.State state);
+
+    // 삭제: from 일 때만 to 로 바꾸고 바뀐 행 수 반환 (동시에 삭제하면 한 쪽만 1)
+    @Modifying
+    @Query("update BoardArchive a set a.state = :to, a.updateAt = :now where a.id = :id and a.state = :from")
+    int updateState(@Param("id") Long id, @Param("from") BaseEntity.State from, @Param("to") BaseEntity.State to,
+                    @Param("now") LocalDateTime now);
+}
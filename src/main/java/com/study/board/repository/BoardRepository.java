@@ -2,12 +2,38 @@ package com.study.board.repository;
 
 import com.study.board.common.entity.BaseEntity;
 import com.study.board.entity.Board;
+import com.study.board.model.board.BoardRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
     Optional<Board> findByIdAndState(Long id, BaseEntity.State state);
+
+    // 삭제: 행은 남겨 두고 from 일 때만 to 로 바꿈, 바뀐 행 수 반환 (동시에 삭제하면 한 쪽만 1)
+    // 옮기는 작업은 BoardArchiver
+    @Modifying
+    @Query("update Board b set b.state = :to, b.updateAt = :now where b.id = :id and b.state = :from")
+    int updateState(@Param("id") Long id, @Param("from") BaseEntity.State from, @Param("to") BaseEntity.State to,
+                    @Param("now") LocalDateTime now);
+
+    // 목록 조회: 작성자는 FK(user_id)만 읽고 member 는 조인하지 않음 (작성자는 BoardService 가 id로 모아서 조회)
+    // List 로 받아서 count 쿼리는 실행하지 않음
+    @Query("select new com.study.board.model.board.BoardRow(b.id, b.user.id, b.title, b.content, b.createdAt, b.updateAt)"
+            + " from Board b where b.state = :state")
+    List<BoardRow> findRowsByState(@Param("state") BaseEntity.State state, Pageable pageable);
+
+    // 다건 조회: IN 쿼리 한 번
+    @Query("select new com.study.board.model.board.BoardRow(b.id, b.user.id, b.title, b.content, b.createdAt, b.updateAt)"
+            + " from Board b where b.id in :ids and b.state = :state")
+    List<BoardRow> findRowsByIdInAndState(@Param("ids") Collection<Long> ids, @Param("state") BaseEntity.State state);
 }
@@ -0,0 +1,12 @@
+package com.study.board.repository;
+
+import com.study.board.model.board.BoardListView;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+public interface BoardRepositoryCustom {
+    // 목록 조회에서 요청한 컬럼만 select (엔티티를 만들지 않음), ACTIVE 게시글만
+    List<Map<String, Object>> findAllProjected(BoardListView view, Pageable pageable);
+}
@@ -0,0 +1,91 @@
+package com.study.board.repository;
+
+import com.study.board.common.entity.BaseEntity;
+import com.study.board.model.board.BoardField;
+import com.study.board.model.board.BoardListView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
+    // 정렬할 수 있는 속성 (Pageable의 sort=... 값)
+    private static final Map<String, String> SORTABLE = Map.of(
+            "id", "b.id",
+            "title", "b.title",
+            "createdAt", "b.createdAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAllProjected(BoardListView view, Pageable pageable) {
+        // JPQL에는 BoardField에 정의된 식과 검증된 정수만 들어감
+        List<BoardField> fields = new ArrayList<>(view.getFields());
+        StringBuilder jpql = new StringBuilder("select ");
+        for (int i = 0; i < fields.size(); i++) {
+            BoardField field = fields.get(i);
+            if (i > 0) {
+                jpql.append(", ");
+            }
+            if (field == BoardField.CONTENT && view.getContentLength() != null) {
+                jpql.append("substring(b.content, 1, ").append(view.getContentLength()).append(")");
+            } else {
+                jpql.append(field.getExpression());
+            }
+        }
+        jpql.append(" from Board b");
+        if (view.needsWriter()) {
+            jpql.append(" join b.user u");
+        }
+        jpql.append(" where b.state = :state");     // 삭제(INACTIVE)된 게시글 제외
+        appendOrderBy(jpql, pageable.getSort());
+
+        List<Tuple> tuples = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("state", BaseEntity.State.ACTIVE)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            Map<String, Object> writer = null;
+            for (int i = 0; i < fields.size(); i++) {
+                BoardField field = fields.get(i);
+                if (field.isWriter()) {
+                    if (writer == null) {
+                        writer = new LinkedHashMap<>();
+                        row.put("writer", writer);
+                    }
+                    writer.put(field.getName(), tuple.get(i));
+                } else if (field == BoardField.BOARD_ID) {
+                    row.put(field.getName(), String.valueOf(tuple.get(i)));     // 전체 응답(GetBoardRes)과 같은 문자열 id
+                } else {
+                    row.put(field.getName(), tuple.get(i));
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private void appendOrderBy(StringBuilder jpql, Sort sort) {
+        String separator = " order by ";
+        for (Sort.Order order : sort) {
+            String expression = SORTABLE.get(order.getProperty());
+            if (expression != null) {
+                jpql.append(separator).append(expression).append(order.isAscending() ? " asc" : " desc");
+                separator = ", ";
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.board.repository;
+
+import com.study.board.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    List<OutboxEvent> findTop500BySeqGreaterThanOrderBySeqAsc(Long seq);
+
+    List<OutboxEvent> findAllBySeqIn(Collection<Long> seqs);
+
+    @Query("select coalesce(max(o.seq), 0) from OutboxEvent o")
+    Long findMaxSeq();
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent o where o.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,19 @@
 package com.study.board.repository;
 
 import javax.servlet.http.HttpSession;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/*
+요청 스레드들이 함께 쓰는 저장소
+- sequence는 AtomicLong으로 증가시켜 동시에 저장해도 같은 키를 받지 않음 (++sequence는 원자적이지 않아 서로 덮어씀)
+- sessionId -> 키 인덱스로 삭제 시 전체를 순회하지 않고, 같은 세션의 저장/삭제는 인덱스의 compute로 직렬화
+ */
 public class SessionRepository {
-    private static Map<Long, HttpSession> store = new ConcurrentHashMap<>();
-    private static long sequence = 0L;
+    private static final Map<Long, HttpSession> store = new ConcurrentHashMap<>();
+    private static final Map<String, Long> keyBySessionId = new ConcurrentHashMap<>();
+    private static final AtomicLong sequence = new AtomicLong();
 
     private static final SessionRepository instance = new SessionRepository();
 
@@ -18,8 +24,16 @@ public class SessionRepository {
     private SessionRepository() {
     }
 
+    // 같은 세션을 다시 저장하면 새 키로 교체 (이전 항목은 제거)
     public HttpSession save(HttpSession session) {
-        store.put(++sequence, session);
+        keyBySessionId.compute(session.getId(), (sessionId, previousKey) -> {
+            if (previousKey != null) {
+                store.remove(previousKey);
+            }
+            long key = sequence.incrementAndGet();
+            store.put(key, session);
+            return key;
+        });
         return session;
     }
 
@@ -38,13 +52,13 @@ public class SessionRepository {
     }
 
     public void deleteSessionBySessionId(String sessionId) {
-        for (Iterator<Map.Entry<Long, HttpSession>> iterator = store.entrySet().iterator(); iterator.hasNext(); ) {
-            Map.Entry<Long, HttpSession> entry = iterator.next();
-            HttpSession session = entry.getValue();
-            if (session.getId().equals(sessionId)) {
-                iterator.remove();
-                break;
-            }
-        }
+        keyBySessionId.computeIfPresent(sessionId, (id, key) -> {
+            store.remove(key);
+            return null;
+        });
+    }
+
+    public int size() {
+        return store.size();
     }
 }
@@ -0,0 +1,30 @@
+package com.study.board.repository;
+
+import com.study.board.entity.UserPostStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/*
+카운터는 읽고 더해서 저장하지 않고 DB에서 원자적으로 증감함 (동시에 작성해도 유실 없음)
+호출한 쪽의 트랜잭션(게시글 저장/삭제)에 함께 포함됨
+ */
+@Repository
+public interface UserPostStatsRepository extends JpaRepository<UserPostStats, Long> {
+    @Modifying
+    @Query(value = "INSERT INTO user_post_stats (user_id, post_count, last_post_at, updated_at) VALUES (:userId, 1, :postedAt, :postedAt)"
+            + " ON DUPLICATE KEY UPDATE post_count = post_count + 1,"
+            + " last_post_at = GREATEST(COALESCE(last_post_at, VALUES(last_post_at)), VALUES(last_post_at)),"
+            + " updated_at = VALUES(updated_at)", nativeQuery = true)
+    int increment(@Param("userId") Long userId, @Param("postedAt") LocalDateTime postedAt);
+
+    // 마지막 작성 시간은 그대로 둠 (남은 글 기준 값은 보정 작업에서 다시 계산)
+    @Modifying
+    @Query(value = "UPDATE user_post_stats SET post_count = GREATEST(post_count - 1, 0), updated_at = :now WHERE user_id = :userId",
+            nativeQuery = true)
+    int decrement(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
@@ -8,12 +8,14 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findById(Long id);
 
     /*
     * board
+    * 파생 쿼리는 2차 캐시를 거치지 않으므로 findById(2차 캐시)로 조회한 뒤 상태를 확인
     * */
-    Optional<User> findByIdAndState(Long id, BaseEntity.State state);
-    Optional<User> findByEmail(String email);
+    default Optional<User> findByIdAndState(Long id, BaseEntity.State state) {
+        return findById(id).filter(user -> user.getState() == state);
+    }
 }
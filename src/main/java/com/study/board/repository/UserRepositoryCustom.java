@@ -0,0 +1,10 @@
+package com.study.board.repository;
+
+import com.study.board.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    // 자연키(email) 조회, 자연키 캐시 -> 엔티티 캐시 순으로 확인
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,80 @@
+package com.study.board.service;
+
+import com.study.board.common.cache.CacheInvalidationListener;
+import com.study.board.common.stream.BoardEventStream;
+import com.study.board.common.trending.TrendingBoards;
+import com.study.board.entity.OutboxEvent;
+import com.study.board.model.board.GetBoardRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * outbox 의 게시글 변경을 인기 게시글 요약과 SSE 스트림에 반영 (이 노드 / 다른 노드의 변경 모두)
+ * <p>
+ * 인기 게시글
+ * - 삭제: 요약을 지움
+ * - 수정: 요약을 보관 중인 게시글만 다시 읽어서 교체 (그 사이에 삭제됐으면 지움)
+ * - 작성: 작성한 노드의 요약은 recordWrite 가 이미 넣어 두었으므로 그대로 둠
+ * <p>
+ * SSE 스트림: 어느 노드에서 바뀌었든 모든 노드의 구독자가 받음 (cache.outbox.poll-interval 만큼 늦게).
+ * 작성 / 수정은 게시글을 다시 읽어서 보내고, 그 사이에 삭제됐으면 뒤따르는 삭제 이벤트만 보냄.
+ * 구독자가 없으면 읽지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardChangeRelay implements CacheInvalidationListener {
+    private static final int RECENT_SEQS = 10_000;
+
+    private final BoardService boardService;
+    private final TrendingBoards trendingBoards;
+    private final BoardEventStream boardEventStream;
+
+    // poller 는 빈 번호 뒤의 이벤트를 다음 폴링에서 다시 전달하므로, 스트림에는 seq 마다 한 번만 보냄 (poll() 안에서만 접근)
+    private final Set<Long> relayedSeqs = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > RECENT_SEQS;
+        }
+    });
+
+    @Override
+    public void invalidate(OutboxEvent event) {
+        if (event.getEntityType() != OutboxEvent.EntityType.BOARD) {
+            return;
+        }
+        Long boardId = event.getEntityId();
+        boolean firstDelivery = relayedSeqs.add(event.getSeq());
+
+        if (event.getChangeType() == OutboxEvent.ChangeType.DELETED) {
+            trendingBoards.remove(boardId);
+            if (firstDelivery) {
+                boardEventStream.publishDeleted(boardId);
+            }
+            return;
+        }
+
+        boolean refreshTrending = event.getChangeType() == OutboxEvent.ChangeType.UPDATED && trendingBoards.hasSummary(boardId);
+        boolean stream = firstDelivery && boardEventStream.getSubscriberCount() > 0;
+        if (!refreshTrending && !stream) {
+            return;
+        }
+
+        Optional<GetBoardRes> board = boardService.findBoard(boardId);
+        if (refreshTrending) {
+            board.ifPresentOrElse(trendingBoards::refresh, () -> trendingBoards.remove(boardId));
+        }
+        if (stream && board.isPresent()) {
+            if (event.getChangeType() == OutboxEvent.ChangeType.CREATED) {
+                boardEventStream.publishCreated(board.get());
+            } else {
+                boardEventStream.publishUpdated(board.get());
+            }
+        }
+    }
+}
@@ -1,125 +1,298 @@
 package com.study.board.service;
 
-import com.study.board.common.entity.BaseEntity;
+import com.study.board.common.audit.AuditEvent;
+import com.study.board.common.audit.AuditLog;
+import com.study.board.common.cache.BoardCache;
+import com.study.board.common.cache.BoardFragmentCache;
+import com.study.board.common.cache.CacheInvalidationPublisher;
 import com.study.board.common.exception.BaseException;
+import com.study.board.common.ratelimit.RateLimiters;
 import com.study.board.common.response.BaseResponseStatus;
-import com.study.board.entity.Board;
+import com.study.board.common.trending.TrendingBoards;
+import com.study.board.entity.OutboxEvent;
 import com.study.board.entity.User;
+import com.study.board.model.board.BoardListView;
+import com.study.board.model.board.BoardRow;
+import com.study.board.model.board.GetBoardBatchRes;
+import com.study.board.model.board.GetBoardItemRes;
+import com.study.board.model.board.GetBoardPageRes;
 import com.study.board.model.board.GetBoardRes;
 import com.study.board.model.board.PostBoardReq;
+import com.study.board.model.user.AuthUser;
 import com.study.board.model.user.GetUserRes;
-import com.study.board.repository.BoardRepository;
+import com.study.board.repository.UserPostStatsRepository;
 import com.study.board.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/*
+기본은 읽기 전용 트랜잭션: FlushMode.MANUAL + 조회한 엔티티의 스냅샷(dirty checking)을 만들지 않음
+게시글을 변경하는 메서드만 @Transactional 로 쓰기 트랜잭션 하나에서 처리
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Transactional(readOnly = true)
 public class BoardService {
-    private final BoardRepository boardRepository;
+    private final BoardStore boardStore;        // sharding.enabled 에 따라 JpaBoardStore / ShardedBoardStoreAdapter
     private final UserRepository userRepository;
+    private final UserPostStatsRepository userPostStatsRepository;
+    private final RateLimiters rateLimiters;
+    private final AuditLog auditLog;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final TrendingBoards trendingBoards;
+    private final BoardFragmentCache boardFragmentCache;
+    private final BoardCache boardCache;
+
+    @Value("${board.batch.max-ids:100}")
+    private int maxBatchIds;
 
     // 저장
-    public void saveBoard(Long userIdx, PostBoardReq postBoardReq) {
-        User user = userRepository.findByIdAndState(userIdx, BaseEntity.State.ACTIVE)
-                .orElseThrow(()->new BaseException(BaseResponseStatus.NON_EXIST_USER));
-        log.info("USER 이름: {}", user.getName());
+    // 트랜잭션은 BoardStore 의 insert 부분에서만 시작함 (group commit 모드에서 대기하는 동안 커넥션을 잡고 있지 않도록)
+    // 작성자는 JwtFilter 가 조회해 둔 AuthUser 를 그대로 사용 (유저를 다시 조회하지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void saveBoard(AuthUser authUser, PostBoardReq postBoardReq) {
+        rateLimiters.checkBoardWrite(authUser.getId());      // 유저별 작성 제한 (DB 조회 전)
+
+        if (!authUser.isActive()) {
+            throw new BaseException(BaseResponseStatus.NON_EXIST_USER);
+        }
 
         if (postBoardReq.getContent().length() == 0 || postBoardReq.getContent().length() > 500) {
             throw new BaseException(BaseResponseStatus.CONTEXT_LENGTH_ERROR);
         }
 
-        Board board = Board.builder()
+        Long boardId = boardStore.insert(authUser.getId(), postBoardReq.getTitle(), postBoardReq.getContent());
+        auditLog.publish(AuditEvent.Type.BOARD_CREATED, authUser.getId(), String.valueOf(boardId));
+        GetBoardRes created = GetBoardRes.builder()
+                .boardId(boardId)
+                .writer(new GetUserRes(authUser))
                 .title(postBoardReq.getTitle())
                 .content(postBoardReq.getContent())
-                .user(user)
+                .createdAt(LocalDateTime.now())
                 .build();
-        log.info("게시글 빌드 성공: {}", board.getTitle());
-
-        try {
-            boardRepository.save(board);
-        } catch (Exception e) {
-            throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
-        }
+        trendingBoards.recordWrite(created);     // SSE 스트림에는 outbox 를 읽은 BoardChangeRelay 가 모든 노드에서 보냄
     }
 
 
     // 수정
-    public void updateBoard(Long userId, Long boardId, PostBoardReq postBoardReq) {
-        User user = userRepository.findByIdAndState(userId, BaseEntity.State.ACTIVE)
-                .orElseThrow(()->new BaseException(BaseResponseStatus.NON_EXIST_USER));
-        log.info("USER 이름: {}", user.getName());
-
-        Board board = boardRepository.findByIdAndState(boardId, BaseEntity.State.ACTIVE)
-                .orElseThrow(()-> new BaseException(BaseResponseStatus.NON_EXIST_ARTICLE));
-
-        if (user != board.getUser()) {
-            throw new BaseException(BaseResponseStatus.NO_AUTH);
+    @Transactional
+    public void updateBoard(AuthUser authUser, Long boardId, PostBoardReq postBoardReq) {
+        if (!authUser.isActive()) {
+            throw new BaseException(BaseResponseStatus.NON_EXIST_USER);
         }
+
         if (postBoardReq.getContent().length() == 0 || postBoardReq.getContent().length() > 500) {
             throw new BaseException(BaseResponseStatus.CONTEXT_LENGTH_ERROR);
         }
 
-        board.updateBoard(postBoardReq.getTitle(), postBoardReq.getContent());
-        boardRepository.flush();        // 변경된 상태를 데이터베이스에 적용
+        BoardRow row = boardStore.findById(boardId)
+                .orElseThrow(()-> new BaseException(BaseResponseStatus.NON_EXIST_ARTICLE));
+        if (!row.getUserId().equals(authUser.getId())) {
+            throw new BaseException(BaseResponseStatus.NO_AUTH);
+        }
+        if (boardStore.update(boardId, postBoardReq.getTitle(), postBoardReq.getContent()) == 0) {
+            throw new BaseException(BaseResponseStatus.NON_EXIST_ARTICLE);     // 그 사이에 삭제됨
+        }
+        boardCache.evict(boardId);
+        cacheInvalidationPublisher.publish(OutboxEvent.EntityType.BOARD, OutboxEvent.ChangeType.UPDATED, boardId);
+        auditLog.publish(AuditEvent.Type.BOARD_UPDATED, authUser.getId(), String.valueOf(boardId));
     }
 
 
     // 삭제
-    public void deleteBoard(Long userIdx, Long boardIdx) {
-        User user = userRepository.findByIdAndState(userIdx, BaseEntity.State.ACTIVE)
-                .orElseThrow(()-> new BaseException(BaseResponseStatus.NON_EXIST_USER));
+    @Transactional
+    public void deleteBoard(AuthUser authUser, Long boardIdx) {
+        if (!authUser.isActive()) {
+            throw new BaseException(BaseResponseStatus.NON_EXIST_USER);
+        }
 
-        Board board = boardRepository.findByIdAndState(boardIdx, BaseEntity.State.ACTIVE)
+        // 행을 지우지 않고 INACTIVE 로 표시 (BoardArchiver 가 나중에 아카이브로 옮김), 이미 아카이브된 게시글은 아카이브에서 표시
+        Optional<BoardRow> hot = boardStore.findById(boardIdx);
+        BoardRow row = hot.or(() -> boardStore.findArchivedById(boardIdx))
                 .orElseThrow(()-> new BaseException(BaseResponseStatus.NON_EXIST_ARTICLE));
-
-        if (user != board.getUser()) {
+        if (!row.getUserId().equals(authUser.getId())) {
             throw new BaseException(BaseResponseStatus.NO_AUTH);
         }
-
-        boardRepository.delete(board);
-        boardRepository.flush();
+        // 조회와 변경 사이에 다른 요청이 먼저 삭제했으면 0건 (카운터를 두 번 줄이지 않도록 여기서 끝냄)
+        int deleted = hot.isPresent() ? boardStore.delete(boardIdx) : boardStore.deleteArchived(boardIdx);
+        if (deleted == 0) {
+            throw new BaseException(BaseResponseStatus.NON_EXIST_ARTICLE);
+        }
+        userPostStatsRepository.decrement(authUser.getId(), LocalDateTime.now());     // 마지막 작성 시간은 보정 작업에서 다시 계산
+        boardCache.evict(boardIdx);
+        cacheInvalidationPublisher.publish(OutboxEvent.EntityType.BOARD, OutboxEvent.ChangeType.DELETED, boardIdx);
+        auditLog.publish(AuditEvent.Type.BOARD_DELETED, authUser.getId(), String.valueOf(boardIdx));
     }
 
 
     // 게시물 전체 조회
-    public List<GetBoardRes> viewBoards(Pageable pageable) {
-        Page<Board> boards = boardRepository.findAll(pageable);
+    // 게시글마다 (id, updateAt) 기준으로 캐시된 JSON 조각을 이어 붙여서 응답 본문을 만듦
+    // view가 있으면(fields= / view= / contentLength=) 요청한 컬럼만 select 해서 응답
+    // 샤드 모드에서는 page 대신 cursor(이전 페이지 마지막 boardId)로 조회 (지원하지 않는 조건은 BoardStore 가 INVALID_FIELDS 로 거절)
+    public byte[] viewBoards(Pageable pageable, BoardListView view, Long cursor) {
+        if (view != null) {
+            if (cursor != null) {
+                throw new BaseException(BaseResponseStatus.INVALID_FIELDS);
+            }
+            return boardFragmentCache.jsonResponse(boardStore.findPageProjected(view, pageable));
+        }
+
+        List<BoardRow> rows = boardStore.findPage(pageable, cursor);
+        Map<Long, User> writers = writers(rows);
+        List<byte[]> fragments = rows.stream()
+                .map(row -> {
+                    User writer = writers.get(row.getUserId());
+                    return boardFragmentCache.fragment(row.getId(), row.getUpdateAt(), writer != null ? writer.getUpdateAt() : null,
+                            () -> toGetBoardRes(row, writer));
+                })
+                .collect(Collectors.toList());
+        return boardFragmentCache.successResponse(fragments);
+    }
 
-        List<GetBoardRes> getBoardResList = boards.getContent().stream().map(board -> {
-            GetBoardRes getBoardRes = new GetBoardRes();
-            getBoardRes.setTitle(board.getTitle());
-            getBoardRes.setContent(board.getContent());
-            getBoardRes.setWriter(new GetUserRes(board.getUser()));
-            getBoardRes.setCreatedAt(board.getCreatedAt());
 
-            return getBoardRes;
-        }).collect(Collectors.toList());
+    // 게시물 전체 조회 (정규화, shape=normalized)
+    // 게시글에는 작성자 id만 담고, 페이지에 나온 작성자는 IN 쿼리 한 번으로 가져와 users 에 한 번씩만 담음
+    public GetBoardPageRes viewNormalizedBoards(Pageable pageable, Long cursor) {
+        List<GetBoardItemRes> items = boardStore.findPage(pageable, cursor).stream()
+                .map(row -> new GetBoardItemRes(row.getId(), row.getUserId(), row.getTitle(), row.getContent(), row.getCreatedAt()))
+                .collect(Collectors.toList());
 
-        return getBoardResList;
+        Set<Long> writerIds = items.stream()
+                .map(GetBoardItemRes::getWriterId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, User> writers = new HashMap<>();
+        if (!writerIds.isEmpty()) {
+            userRepository.findAllById(writerIds).forEach(user -> writers.put(user.getId(), user));
+        }
+
+        Map<Long, GetUserRes> users = new LinkedHashMap<>();      // 페이지에 처음 나온 순서
+        for (Long writerId : writerIds) {
+            User writer = writers.get(writerId);
+            if (writer != null) {
+                users.put(writerId, new GetUserRes(writer));
+            }
+        }
+        return new GetBoardPageRes(items, users);
     }
 
 
     // 게시물 단일 조회
     public GetBoardRes viewSingleBoard(Long boardId) {
-        Board board = boardRepository.findByIdAndState(boardId, BaseEntity.State.ACTIVE)
+        BoardRow row = boardStore.findById(boardId)
+                .or(() -> boardStore.findArchivedById(boardId))      // 아카이브로 옮겨진 게시글 (boards 에 없을 때만 한 번 더 조회)
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NON_EXIST_ARTICLE));
+        GetBoardRes getBoardRes = toGetBoardRes(row, userRepository.findById(row.getUserId()).orElse(null));
 
-        GetBoardRes getBoardRes = GetBoardRes.builder()
-                .writer(new GetUserRes(board.getUser()))
-                .title(board.getTitle())
-                .content(board.getContent())
-                .createdAt(board.getCreatedAt())
-                .build();
-
+        trendingBoards.recordRead(getBoardRes);
+        boardCache.put(getBoardRes);
         return getBoardRes;
     }
+
+
+    // 변경 이벤트를 받은 뒤 게시글을 다시 읽음 (BoardChangeRelay), 캐시 / 인기 집계에는 기록하지 않음
+    public Optional<GetBoardRes> findBoard(Long boardId) {
+        return boardStore.findById(boardId)
+                .map(row -> toGetBoardRes(row, userRepository.findById(row.getUserId()).orElse(null)));
+    }
+
+
+    // 게시물 다건 조회
+    // 캐시에 있는 게시글은 메모리에서, 나머지는 IN 쿼리로 조회하고 요청 순서대로 반환
+    public GetBoardBatchRes viewBoardsByIds(List<Long> boardIds) {
+        List<Long> ids = boardIds.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (ids.size() > maxBatchIds) {
+            throw new BaseException(BaseResponseStatus.TOO_MANY_IDS);
+        }
+
+        Map<Long, GetBoardRes> found = new HashMap<>();
+        List<Long> toLoad = new ArrayList<>();
+        for (Long id : ids) {
+            GetBoardRes cached = boardCache.get(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                toLoad.add(id);
+            }
+        }
+
+        if (!toLoad.isEmpty()) {
+            load(boardStore.findAllById(toLoad), found);
+        }
+
+        // boards 에 없던 id 는 아카이브에서 한 번 더 조회
+        List<Long> toLoadArchived = toLoad.stream().filter(id -> !found.containsKey(id)).collect(Collectors.toList());
+        if (!toLoadArchived.isEmpty()) {
+            load(boardStore.findAllArchivedById(toLoadArchived), found);
+        }
+
+        List<GetBoardRes> boards = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            GetBoardRes board = found.get(id);
+            if (board != null) {
+                boards.add(board);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new GetBoardBatchRes(boards, missingIds);
+    }
+
+
+    // 인기 게시글 (메모리에서만 조회)
+    public List<GetBoardRes> viewTrendingBoards() {
+        return trendingBoards.trending();
+    }
+
+
+    private void load(List<BoardRow> rows, Map<Long, GetBoardRes> found) {
+        Map<Long, User> writers = writers(rows);
+        for (BoardRow row : rows) {
+            GetBoardRes getBoardRes = toGetBoardRes(row, writers.get(row.getUserId()));
+            boardCache.put(getBoardRes);
+            found.put(row.getId(), getBoardRes);
+        }
+    }
+
+    // 행의 작성자 (중복을 빼고 IN 쿼리 한 번, 목록 / 다건 조회 / 아카이브 조회 모두 행 수와 관계없이 한 번)
+    private Map<Long, User> writers(List<BoardRow> rows) {
+        Set<Long> writerIds = rows.stream()
+                .map(BoardRow::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, User> writers = new HashMap<>();
+        if (!writerIds.isEmpty()) {
+            userRepository.findAllById(writerIds).forEach(user -> writers.put(user.getId(), user));
+        }
+        return writers;
+    }
+
+    private GetBoardRes toGetBoardRes(BoardRow row, User writer) {
+        return GetBoardRes.builder()
+                .boardId(row.getId())
+                .writer(writer != null ? new GetUserRes(writer) : null)
+                .title(row.getTitle())
+                .content(row.getContent())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,53 @@
+package com.study.board.service;
+
+import com.study.board.model.board.BoardListView;
+import com.study.board.model.board.BoardRow;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 저장소 (BoardService 는 어디에 저장되는지 모르고 이 인터페이스만 사용)
+ * <p>
+ * JpaBoardStore         : 기본 DB의 boards / boards_archive (sharding.enabled=false)
+ * ShardedBoardStoreAdapter : 작성자의 샤드 (sharding.enabled=true)
+ * <p>
+ * 조회는 ACTIVE 게시글만, 작성자는 id만 담아서 반환함 (작성자 정보는 BoardService 가 id로 모아서 조회).
+ * 구현이 지원하지 않는 조회 조건은 무시하지 않고 INVALID_FIELDS 로 거절함.
+ */
+public interface BoardStore {
+
+    /**
+     * 게시글 저장 + 작성 수 카운터 / outbox 기록, 저장된 id 반환
+     * 게시글 저장에 실패하면 DATABASE_INSERT_ERROR
+     */
+    Long insert(Long userId, String title, String content);
+
+    Optional<BoardRow> findById(Long boardId);
+
+    // 아카이브로 옮겨진 게시글
+    Optional<BoardRow> findArchivedById(Long boardId);
+
+    List<BoardRow> findAllById(Collection<Long> boardIds);
+
+    List<BoardRow> findAllArchivedById(Collection<Long> boardIds);
+
+    /**
+     * 목록 (최신순)
+     * page 방식(JPA)과 cursor 방식(샤드) 중 구현이 지원하는 방식만 받음
+     */
+    List<BoardRow> findPage(Pageable pageable, Long cursor);
+
+    // 목록에서 요청한 컬럼만 조회 (fields= / view= / contentLength=)
+    List<Map<String, Object>> findPageProjected(BoardListView view, Pageable pageable);
+
+    // 수정 / 삭제: 바뀐 행 수 반환 (그 사이에 삭제/이동됐으면 0)
+    int update(Long boardId, String title, String content);
+
+    int delete(Long boardId);
+
+    int deleteArchived(Long boardId);
+}
@@ -0,0 +1,311 @@
+package com.study.board.service;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.id.TimeOrderedIdGenerator;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.common.sharding.ShardRouter;
+import com.study.board.entity.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 작성 group commit (board.write-coalescing.enabled=true 일 때만 사용)
+ * <p>
+ * saveBoard는 검증이 끝난 게시글을 큐에 넣고 결과를 기다림.
+ * writer 스레드 하나가 window 시간 또는 max-batch-size 개가 모일 때까지 모아서
+ * 하나의 트랜잭션에서 multi-row batch insert (+ outbox, 유저별 작성 수) 후 한 번만 커밋하고, 각 요청의 future를 완료시킴.
+ * id는 큐에 넣을 때 TimeOrderedIdGenerator로 미리 정함.
+ * 배치가 실패하면 실패한 행을 찾기 위해 행마다 따로 다시 insert 함 (행 단위 성공/실패)
+ * <p>
+ * timeout 안에 결과가 없으면, 아직 배치에 들어가지 않은 게시글은 취소(CANCELLED)하고 실패를 응답함 (writer가 건너뜀).
+ * 이미 배치에 들어간 게시글은 저장될 수 있으므로 실패로 응답하지 않고 결과를 기다림 (실패 응답 후 저장되어 재시도가 중복 글을 만들지 않도록).
+ * 다만 commit-timeout 까지만 기다리고, 그래도 결과가 없으면 실패로 응답함 (요청 스레드가 무한히 멈추지 않도록, 저장됐을 수는 있음)
+ * writer 스레드가 끝나면(종료 중 interrupt, Error) 남아 있는 게시글은 모두 실패로 완료함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "board.write-coalescing", name = "enabled", havingValue = "true")
+public class BoardWriteCoalescer {
+    private static final String INSERT_BOARD =
+            "INSERT INTO boards (id, title, content, user_id, state, created_at, updated_at) VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?)";
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO cache_outbox (entity_type, change_type, entity_id, created_at) VALUES (?, ?, ?, ?)";
+    private static final String UPSERT_POST_STATS =
+            "INSERT INTO user_post_stats (user_id, post_count, last_post_at, updated_at) VALUES (?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE post_count = post_count + VALUES(post_count),"
+                    + " last_post_at = GREATEST(COALESCE(last_post_at, VALUES(last_post_at)), VALUES(last_post_at)),"
+                    + " updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final BlockingQueue<PendingBoard> queue;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+    private final long commitTimeoutMillis;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public BoardWriteCoalescer(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${id-generator.node-id:0}") int nodeId,
+                               @Value("${board.write-coalescing.window:5ms}") Duration window,
+                               @Value("${board.write-coalescing.max-batch-size:100}") int maxBatchSize,
+                               @Value("${board.write-coalescing.queue-capacity:10000}") int queueCapacity,
+                               @Value("${board.write-coalescing.timeout:1s}") Duration timeout,
+                               @Value("${board.write-coalescing.commit-timeout:30s}") Duration commitTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.idGenerator = TimeOrderedIdGenerator.forNode(nodeId);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.commitTimeoutMillis = commitTimeout.toMillis();
+    }
+
+    // 게시글을 큐에 넣고 저장될 때까지 기다림, 저장된 게시글 id 반환
+    public Long insert(Long userId, String title, String content) throws BaseException {
+        // id는 Board 엔티티와 같은 생성기로 미리 만듦 (generated keys를 다시 읽지 않음)
+        PendingBoard pending = new PendingBoard(idGenerator.nextId(ShardRouter.bucketOf(userId)), userId, title, content);
+        if (!queue.offer(pending)) {
+            throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);      // 큐가 가득 참
+        }
+        try {
+            try {
+                return pending.future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.cancel()) {
+                    cancelled.incrementAndGet();
+                    throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);      // 저장되지 않음이 확실함
+                }
+            }
+            try {
+                return pending.future.get(commitTimeoutMillis, TimeUnit.MILLISECONDS);      // 배치에 들어감: 저장 결과를 기다림
+            } catch (TimeoutException e) {
+                log.warn("BOARD WRITE COALESCER no result within commit-timeout : boardId={}", pending.id);     // 저장됐을 수 있음
+                throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
+        } catch (ExecutionException e) {
+            throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
+        }
+    }
+
+    // 저장한 배치 수 (행 단위 재시도 제외)
+    long getBatches() {
+        return batches.get();
+    }
+
+    // timeout 으로 취소되어 저장하지 않은 게시글 수
+    long getCancelled() {
+        return cancelled.get();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "board-write-coalescer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 남은 게시글을 저장하고 끝냄, 5초 안에 끝나지 않으면 interrupt (남은 게시글은 drainLoop 가 실패로 완료)
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        if (writer.isAlive()) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingBoard> batch = new ArrayList<>(maxBatchSize);
+        try {
+            drain(batch);
+        } finally {
+            // interrupt / Error 로 끝나면 모으던 배치와 큐에 남은 게시글을 기다리는 요청이 멈추지 않도록 실패로 완료 (이미 완료된 future 는 그대로)
+            queue.drainTo(batch);
+            if (!batch.isEmpty()) {
+                log.error("BOARD WRITE COALESCER stopped with {} pending boards", batch.size());
+                IllegalStateException stopped = new IllegalStateException("board write coalescer stopped");
+                for (PendingBoard pending : batch) {
+                    pending.future.completeExceptionally(stopped);
+                }
+            }
+        }
+    }
+
+    private void drain(List<PendingBoard> batch) {
+        while (running || !queue.isEmpty()) {
+            try {
+                batch.clear();
+                PendingBoard first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 요청 이후 window 동안 또는 maxBatchSize 개가 될 때까지 모음
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingBoard next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(claim(batch));
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("BOARD WRITE COALESCER ERROR : {}", e.getMessage());
+            }
+        }
+    }
+
+    // 이미 취소된 게시글을 빼고, 남은 게시글은 더 이상 취소할 수 없게 표시
+    private List<PendingBoard> claim(List<PendingBoard> batch) {
+        List<PendingBoard> claimed = new ArrayList<>(batch.size());
+        for (PendingBoard pending : batch) {
+            if (pending.claim()) {
+                claimed.add(pending);
+            }
+        }
+        return claimed;
+    }
+
+    private void flush(List<PendingBoard> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(batch));
+            batches.incrementAndGet();
+            for (PendingBoard pending : batch) {
+                pending.future.complete(pending.id);
+            }
+        } catch (Exception batchFailure) {
+            // 어떤 행이 실패했는지 알 수 없으므로 행마다 따로 저장
+            for (PendingBoard pending : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(pending)));
+                    pending.future.complete(pending.id);
+                } catch (Exception rowFailure) {
+                    pending.future.completeExceptionally(rowFailure);
+                }
+            }
+        }
+    }
+
+    private void insertBatch(List<PendingBoard> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_BOARD)) {
+                for (PendingBoard pending : batch) {
+                    statement.setLong(1, pending.id);
+                    statement.setString(2, pending.title);
+                    statement.setString(3, pending.content);
+                    statement.setLong(4, pending.userId);
+                    statement.setTimestamp(5, now);
+                    statement.setTimestamp(6, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+
+            // 캐시 무효화 outbox도 같은 트랜잭션에서 기록 (CacheInvalidationPublisher와 동일한 내용)
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_OUTBOX)) {
+                for (PendingBoard pending : batch) {
+                    statement.setString(1, OutboxEvent.EntityType.BOARD.name());
+                    statement.setString(2, OutboxEvent.ChangeType.CREATED.name());
+                    statement.setLong(3, pending.id);
+                    statement.setTimestamp(4, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+
+            // 작성 수 카운터도 같은 트랜잭션에서 유저별로 합쳐서 한 번씩 증가
+            Map<Long, Integer> postsByUser = new LinkedHashMap<>();
+            for (PendingBoard pending : batch) {
+                postsByUser.merge(pending.userId, 1, Integer::sum);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_POST_STATS)) {
+                for (Map.Entry<Long, Integer> entry : postsByUser.entrySet()) {
+                    statement.setLong(1, entry.getKey());
+                    statement.setInt(2, entry.getValue());
+                    statement.setTimestamp(3, now);
+                    statement.setTimestamp(4, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    private static class PendingBoard {
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;       // 배치에 들어감 (저장될 수 있음)
+        private static final int CANCELLED = 2;     // timeout 으로 취소됨 (저장하지 않음)
+
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final long id;
+        private final Long userId;
+        private final String title;
+        private final String content;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        PendingBoard(long id, Long userId, String title, String content) {
+            this.id = id;
+            this.userId = userId;
+            this.title = title;
+            this.content = content;
+        }
+
+        boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.study.board.service;
+
+import com.study.board.common.cache.CacheInvalidationPublisher;
+import com.study.board.common.entity.BaseEntity;
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.entity.Board;
+import com.study.board.entity.BoardArchive;
+import com.study.board.entity.OutboxEvent;
+import com.study.board.model.board.BoardListView;
+import com.study.board.model.board.BoardRow;
+import com.study.board.repository.BoardArchiveRepository;
+import com.study.board.repository.BoardRepository;
+import com.study.board.repository.UserPostStatsRepository;
+import com.study.board.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 기본 DB의 boards / boards_archive (sharding.enabled=false)
+ * 목록은 page 방식만 지원함 (cursor 는 INVALID_FIELDS)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class JpaBoardStore implements BoardStore {
+    private final BoardRepository boardRepository;
+    private final BoardArchiveRepository boardArchiveRepository;
+    private final UserRepository userRepository;
+    private final UserPostStatsRepository userPostStatsRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Optional<BoardWriteCoalescer> boardWriteCoalescer;    // board.write-coalescing.enabled=true 일 때만 존재
+
+    @Override
+    public Long insert(Long userId, String title, String content) {
+        if (boardWriteCoalescer.isPresent()) {
+            // group commit: 다른 요청들과 함께 한 번에 저장 (outbox / 작성 수 카운터 포함)
+            return boardWriteCoalescer.get().insert(userId, title, content);
+        }
+        try {
+            return transactionTemplate.execute(status -> {
+                Board board = Board.builder()
+                        .title(title)
+                        .content(content)
+                        .user(userRepository.getReferenceById(userId))      // FK 만 필요하므로 select 없는 프록시
+                        .build();
+                boardRepository.save(board);
+                userPostStatsRepository.increment(userId, LocalDateTime.now());          // 같은 트랜잭션에서 작성 수 증가
+                cacheInvalidationPublisher.publish(OutboxEvent.EntityType.BOARD, OutboxEvent.ChangeType.CREATED, board.getId());     // 같은 트랜잭션에서 outbox 기록
+                return board.getId();
+            });
+        } catch (Exception e) {
+            throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
+        }
+    }
+
+    @Override
+    public Optional<BoardRow> findById(Long boardId) {
+        return boardRepository.findByIdAndState(boardId, BaseEntity.State.ACTIVE).map(JpaBoardStore::toRow);
+    }
+
+    @Override
+    public Optional<BoardRow> findArchivedById(Long boardId) {
+        return boardArchiveRepository.findByIdAndState(boardId, BaseEntity.State.ACTIVE).map(JpaBoardStore::toRow);
+    }
+
+    @Override
+    public List<BoardRow> findAllById(Collection<Long> boardIds) {
+        return boardRepository.findRowsByIdInAndState(boardIds, BaseEntity.State.ACTIVE);
+    }
+
+    @Override
+    public List<BoardRow> findAllArchivedById(Collection<Long> boardIds) {
+        return boardArchiveRepository.findAllByIdInAndState(boardIds, BaseEntity.State.ACTIVE).stream()
+                .map(JpaBoardStore::toRow)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BoardRow> findPage(Pageable pageable, Long cursor) {
+        if (cursor != null) {
+            throw new BaseException(BaseResponseStatus.INVALID_FIELDS);
+        }
+        return boardRepository.findRowsByState(BaseEntity.State.ACTIVE, pageable);
+    }
+
+    @Override
+    public List<Map<String, Object>> findPageProjected(BoardListView view, Pageable pageable) {
+        return boardRepository.findAllProjected(view, pageable);
+    }
+
+    // 호출한 쪽 트랜잭션에서 dirty checking 으로 반영 (findById 로 읽은 엔티티는 영속성 컨텍스트에서 다시 꺼내므로 select 없음)
+    @Override
+    public int update(Long boardId, String title, String content) {
+        return boardRepository.findById(boardId)
+                .filter(board -> board.getState() == BaseEntity.State.ACTIVE)
+                .map(board -> {
+                    board.updateBoard(title, content);
+                    return 1;
+                })
+                .orElse(0);
+    }
+
+    // 행을 지우지 않고 INACTIVE 로 표시 (BoardArchiver 가 나중에 아카이브로 옮김)
+    @Override
+    public int delete(Long boardId) {
+        return boardRepository.updateState(boardId, BaseEntity.State.ACTIVE, BaseEntity.State.INACTIVE, LocalDateTime.now());
+    }
+
+    @Override
+    public int deleteArchived(Long boardId) {
+        return boardArchiveRepository.updateState(boardId, BaseEntity.State.ACTIVE, BaseEntity.State.INACTIVE, LocalDateTime.now());
+    }
+
+    private static BoardRow toRow(Board board) {
+        return new BoardRow(board.getId(), board.getUser().getId(), board.getTitle(), board.getContent(),
+                board.getCreatedAt(), board.getUpdateAt());
+    }
+
+    private static BoardRow toRow(BoardArchive archived) {
+        return new BoardRow(archived.getId(), archived.getUserId(), archived.getTitle(), archived.getContent(),
+                archived.getCreatedAt(), archived.getUpdateAt());
+    }
+}
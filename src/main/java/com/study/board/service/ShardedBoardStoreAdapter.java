@@ -0,0 +1,128 @@
+package com.study.board.service;
+
+import com.study.board.common.cache.CacheInvalidationPublisher;
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.common.sharding.ShardedBoardStore;
+import com.study.board.entity.OutboxEvent;
+import com.study.board.model.board.BoardListView;
+import com.study.board.model.board.BoardRow;
+import com.study.board.repository.UserPostStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 작성자의 샤드에 저장하는 BoardStore (sharding.enabled=true)
+ * <p>
+ * 목록은 cursor(이전 페이지 마지막 boardId) 방식만 지원함. 샤드마다 id 내림차순으로 읽어서 합치므로
+ * page 번호, 다른 정렬, 필드 선택(fields= / view= / contentLength=)은 INVALID_FIELDS 로 거절함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+public class ShardedBoardStoreAdapter implements BoardStore {
+    private static final Set<String> FEED_ORDER = Set.of("id", "boardId", "createdAt");     // 모두 id 내림차순과 같은 순서
+
+    private final ShardedBoardStore shardedBoardStore;
+    private final UserPostStatsRepository userPostStatsRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 작성자의 샤드에 저장한 뒤 outbox / 작성 수 카운터는 기본 DB에 따로 기록
+     * DB가 달라 같은 트랜잭션으로 묶을 수 없으므로, 게시글이 저장된 뒤의 실패는 로그만 남기고 성공으로 응답함
+     * (작성 수는 UserPostStatsReconciler 가 보정하고, 새 게시글은 다른 노드 캐시에 아직 없으므로 outbox 가 빠져도 오래된 값이 남지 않음)
+     */
+    @Override
+    public Long insert(Long userId, String title, String content) {
+        long boardId = insertRow(userId, title, content);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userPostStatsRepository.increment(userId, LocalDateTime.now());
+                cacheInvalidationPublisher.publish(OutboxEvent.EntityType.BOARD, OutboxEvent.ChangeType.CREATED, boardId);
+            });
+        } catch (Exception e) {
+            log.error("SHARD post stats / outbox failed after insert : userId={}, boardId={}", userId, boardId, e);
+        }
+        return boardId;
+    }
+
+    private long insertRow(Long userId, String title, String content) {
+        try {
+            return shardedBoardStore.insert(userId, title, content);
+        } catch (Exception e) {
+            throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
+        }
+    }
+
+    @Override
+    public Optional<BoardRow> findById(Long boardId) {
+        return shardedBoardStore.findById(boardId);
+    }
+
+    @Override
+    public Optional<BoardRow> findArchivedById(Long boardId) {
+        return shardedBoardStore.findArchivedById(boardId);
+    }
+
+    // 샤드별로 IN 쿼리 한 번씩
+    @Override
+    public List<BoardRow> findAllById(Collection<Long> boardIds) {
+        return shardedBoardStore.findByIds(boardIds);
+    }
+
+    @Override
+    public List<BoardRow> findAllArchivedById(Collection<Long> boardIds) {
+        return shardedBoardStore.findArchivedByIds(boardIds);
+    }
+
+    @Override
+    public List<BoardRow> findPage(Pageable pageable, Long cursor) {
+        if (pageable.getPageNumber() > 0 || !isFeedOrder(pageable.getSort())) {
+            throw new BaseException(BaseResponseStatus.INVALID_FIELDS);
+        }
+        return shardedBoardStore.feed(cursor, pageable.getPageSize());
+    }
+
+    @Override
+    public List<Map<String, Object>> findPageProjected(BoardListView view, Pageable pageable) {
+        throw new BaseException(BaseResponseStatus.INVALID_FIELDS);
+    }
+
+    @Override
+    public int update(Long boardId, String title, String content) {
+        return shardedBoardStore.update(boardId, title, content);
+    }
+
+    @Override
+    public int delete(Long boardId) {
+        return shardedBoardStore.delete(boardId);
+    }
+
+    @Override
+    public int deleteArchived(Long boardId) {
+        return shardedBoardStore.deleteArchived(boardId);
+    }
+
+    private static boolean isFeedOrder(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (order.isAscending() || !FEED_ORDER.contains(order.getProperty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,32 +1,49 @@
 package com.study.board.service;
 
+import com.study.board.common.audit.AuditEvent;
+import com.study.board.common.audit.AuditLog;
+import com.study.board.common.cache.CacheInvalidationPublisher;
 import com.study.board.common.exception.BaseException;
+import com.study.board.common.ratelimit.RateLimiters;
 import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.entity.OutboxEvent;
 import com.study.board.entity.User;
+import com.study.board.entity.UserPostStats;
 import com.study.board.model.jwt.PostJwtRes;
 import com.study.board.model.user.GetUserRes;
 import com.study.board.model.user.LoginReq;
 import com.study.board.model.user.LogoutReq;
 import com.study.board.model.user.SignUpUserReq;
 import com.study.board.repository.SessionRepository;
+import com.study.board.repository.UserPostStatsRepository;
 import com.study.board.repository.UserRepository;
 import com.study.board.util.JwtUtils;
 import com.study.board.util.SHA256;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
+import java.sql.SQLException;
 import java.util.*;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Transactional(readOnly = true)     // 기본은 읽기 전용, 변경하는 메서드만 쓰기 트랜잭션
 public class UserService {
     private final UserRepository userRepository;
+    private final UserPostStatsRepository userPostStatsRepository;
     private final JwtUtils jwtUtils;
+    private final RateLimiters rateLimiters;
+    private final AuditLog auditLog;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
     private final SessionRepository sessionRepository = SessionRepository.getInstance();
 
 
@@ -34,6 +51,7 @@ public class UserService {
      * 유저 생성
      * @param signUpUserReq
      */
+    @Transactional
     public void createUser(SignUpUserReq signUpUserReq) throws BaseException {
         String plainPw = signUpUserReq.getPassword(); // 유저가 입력한 비밀번호 (ex. ldc1104)
         String encryptPw = SHA256.encrypt(plainPw); // 암호화된 비밀번호 (ex. d34eda6...)
@@ -53,10 +71,36 @@ public class UserService {
                 .build();
 
         try {
-            userRepository.save(user);
+            userRepository.saveAndFlush(user);     // id를 메모리에서 만들어 insert가 커밋까지 미뤄지므로, 실패를 여기서 잡도록 flush
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {      // 같은 이메일로 동시에 가입하면 위의 조회를 둘 다 통과하고 email 유니크 제약에서 걸림
+                throw new BaseException(BaseResponseStatus.EXIST_EMAIL);
+            }
+            log.warn("USER insert rejected by constraint : {}", e.getMostSpecificCause().getMessage());      // 길이 / NOT NULL 등
+            throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
         } catch (Exception e) { //저장에 실패 시 예외를 발생시킴.
             throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
         }
+        cacheInvalidationPublisher.publish(OutboxEvent.EntityType.USER, OutboxEvent.ChangeType.CREATED, user.getId());
+    }
+
+    // email 유니크 제약(uk_member_email) 위반인지 (Hibernate 가 뽑은 제약 이름, 없으면 DB 메시지로 확인)
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String constraint = ((ConstraintViolationException) cause).getConstraintName();
+                if (constraint != null && constraint.toLowerCase(Locale.ROOT).contains("email")) {
+                    return true;
+                }
+            }
+            if (cause instanceof SQLException) {
+                SQLException sqlException = (SQLException) cause;
+                boolean unique = "23505".equals(sqlException.getSQLState()) || sqlException.getErrorCode() == 1062;     // H2 / MySQL 유니크 위반
+                String message = sqlException.getMessage();
+                return unique && message != null && message.toLowerCase(Locale.ROOT).contains("email");
+            }
+        }
+        return false;
     }
 
     /**
@@ -65,10 +109,17 @@ public class UserService {
     public List<GetUserRes> getUsers() {
         List<User> userList = userRepository.findAll(); // DB에서 모든 User를 가져와 리스트에 넣기.
 
+        // 게시글 수는 유저마다 조회하지 않고 IN 쿼리 한 번으로 가져옴
+        Map<Long, UserPostStats> statsByUser = new HashMap<>();
+        List<Long> userIds = new ArrayList<>(userList.size());
+        for (User user : userList) {
+            userIds.add(user.getId());
+        }
+        userPostStatsRepository.findAllById(userIds).forEach(stats -> statsByUser.put(stats.getUserId(), stats));
 
         List<GetUserRes> userRes = new ArrayList<>(); // 반환해줄 배열을 생성, 배열을 구성할 객체는 GetUserRes.
         for (User user : userList) {
-            GetUserRes getUserEntity = new GetUserRes(user); // GetUserRes.class의 생성자를 통하여 User를 GetUserRes로 변환할 수 있게 구현. (GetUserRes.class에서 확인해보세요.)
+            GetUserRes getUserEntity = new GetUserRes(user, statsByUser.get(user.getId())); // GetUserRes.class의 생성자를 통하여 User를 GetUserRes로 변환할 수 있게 구현. (GetUserRes.class에서 확인해보세요.)
             userRes.add(getUserEntity); //배열에 객체 추가
         }
 
@@ -99,7 +150,8 @@ public class UserService {
         }
 
         User user = optionalUser.get(); //optionalUser가 null이 아니라면 get()메서드를 통해 User를 가져올 수 있음.
-        GetUserRes getUserRes = new GetUserRes(user); // GetUserRes.class의 생성자를 통하여 User를 GetUserRes로 변환할 수 있게 구현. (GetUserRes.class에서 확인해보세요.)
+        UserPostStats stats = userPostStatsRepository.findById(userId).orElse(null); // 게시글 수 / 마지막 작성 시간 (글을 쓴 적 없으면 없음)
+        GetUserRes getUserRes = new GetUserRes(user, stats); // GetUserRes.class의 생성자를 통하여 User를 GetUserRes로 변환할 수 있게 구현. (GetUserRes.class에서 확인해보세요.)
 
         return getUserRes;
     }
@@ -117,8 +169,9 @@ public class UserService {
     public void sessionLogin(LoginReq loginReq,
                              HttpServletRequest request,
                              HttpServletResponse response) throws BaseException {
+        rateLimiters.checkLoginAccount(loginReq.getEmail());     // 계정별 요청 제한 (DB 조회 전)
+
         Optional<User> optionalUser = userRepository.findByEmail(loginReq.getEmail());
-        log.info("loginReq MAIL : {}", loginReq.getEmail());
 
         // 해당 email로 가입한 유저가 없을 시 예외 발생.
         if (optionalUser.isEmpty()) {
@@ -132,8 +185,10 @@ public class UserService {
 
         // 비밀번호 일치하지 않을 시 예외 발생.
         if (!Objects.equals(user.getPassword(), encryptPw)) {
+            auditLog.publish(AuditEvent.Type.LOGIN_FAILURE, user.getId(), "session-login");
             throw new BaseException(BaseResponseStatus.NOT_MATCH_PASSWORD);
         }
+        auditLog.publish(AuditEvent.Type.SESSION_LOGIN, user.getId(), "session-login");
 
         // 비밀번호 일치 시 Session생성, SessionID 유저에게 전송.
         HttpSession session = request.getSession();
@@ -155,6 +210,7 @@ public class UserService {
      * @param request
      * @throws BaseException
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)     // DB 작업 없음
     public void sessionLogout(LogoutReq logoutReq,
                               HttpServletRequest request,
                               HttpServletResponse response) throws BaseException {
@@ -184,11 +240,12 @@ public class UserService {
 //                      .findByEmail(loginReq.getEmail())
 //                      .orElseThrow(() -> new BaseException(BaseResponseStatus.NON_EXIST_USER));
 
+        rateLimiters.checkLoginAccount(loginReq.getEmail());     // 계정별 요청 제한 (DB 조회 전)
+
         Optional<User> opUser = userRepository.findByEmail(loginReq.getEmail());
         User user = opUser.orElseThrow(() -> new BaseException(BaseResponseStatus.NON_EXIST_USER));
         String encryptPwd;
         try {
-            log.info("password : {}", loginReq.getPassword());
             encryptPwd = SHA256.encrypt(loginReq.getPassword());
         } catch (Exception exception) {
             throw new BaseException(BaseResponseStatus.PASSWORD_ENCRYPTION_ERROR);
@@ -197,8 +254,10 @@ public class UserService {
 
         if (Objects.equals(encryptPwd, user.getPassword())) {
             Map<String, String> jwtTokens = jwtUtils.generateToken(user.getId(), role);
+            auditLog.publish(AuditEvent.Type.LOGIN_SUCCESS, user.getId(), "login");
             return new PostJwtRes(user.getId(), jwtTokens.get("accessToken"), jwtTokens.get("refreshToken"));
         } else {
+            auditLog.publish(AuditEvent.Type.LOGIN_FAILURE, user.getId(), "login");
             throw new BaseException(BaseResponseStatus.NON_EXIST_ARTICLE);
         }
 
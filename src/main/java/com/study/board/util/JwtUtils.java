@@ -3,6 +3,7 @@ package com.study.board.util;
 import com.study.board.common.exception.BaseException;
 import com.study.board.common.response.BaseResponseStatus;
 import com.study.board.entity.User;
+import com.study.board.model.user.AuthUser;
 import com.study.board.repository.UserRepository;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
@@ -109,14 +110,15 @@ public class JwtUtils {
     // Authentication: spring security에서 인증을 나타내는 인터페이스
     public Authentication getAuthentication(String accessToken) throws BaseException{
         User user = userRepository.findById(getUserId(accessToken)).orElseThrow(()->new BaseException(BaseResponseStatus.NON_EXIST_USER));
+        AuthUser authUser = AuthUser.of(user);      // 토큰 검증과 유저 조회는 요청마다 여기서 한 번만
 
         // GrantedAuthority: 인증된 사용자가 갖는 권한 정보를 포현하는데 사용
         List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(user.getRole().toString())); // 객체를 생성하고 권한 목록에 추가
 
-        // 생성된 사용자ID, 빈 비밀번호, 권한 목록을 사용하여 객체를 생성해 반환함
-        // 이 객체는 인증된 사용자 정보를 나타내는데 사용되며, spring security에서 인증 처리를 위해 사용될 수 있음
-        return new UsernamePasswordAuthenticationToken(getUserId(accessToken), "", authorities);
+        // 인증된 유저(AuthUser), 빈 비밀번호, 권한 목록을 사용하여 객체를 생성해 반환함
+        // 이 객체는 인증된 사용자 정보를 나타내는데 사용되며, 컨트롤러는 @AuthenticationPrincipal 로 AuthUser 를 받음
+        return new UsernamePasswordAuthenticationToken(authUser, "", authorities);
     }
 
     // 현재 사용자의 JWT 토큰을 가져와서 해당 토큰에 포함된 사용자의 ID를 반환하는 역할
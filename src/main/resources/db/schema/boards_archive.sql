@@ -0,0 +1,20 @@
+-- 게시글 soft delete / 아카이브 (BoardArchiver)
+-- 기본 DB와 샤드(sharding.initialize-schema=false)마다 실행 (순서 / 방법은 README 의 운영 DB 스키마)
+-- (idx_boards_state_created_at 은 MySQL 에서 IF NOT EXISTS 가 없으므로 이미 있으면 그 줄은 빼고 실행)
+
+-- 삭제(INACTIVE)됐거나 보관 기간이 지난 게시글, id / 작성 시간은 boards 그대로
+CREATE TABLE IF NOT EXISTS boards_archive (
+    id          BIGINT       NOT NULL,
+    title       VARCHAR(50)  NOT NULL,
+    content     VARCHAR(500) NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    state       VARCHAR(10)  NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    archived_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_boards_archive_user_id (user_id)          -- 게시글 수 보정 (UserPostStatsReconciler)
+) ENGINE = InnoDB;
+
+-- 아카이브 대상 조회 (state = INACTIVE / created_at < 보관 기간)
+CREATE INDEX idx_boards_state_created_at ON boards (state, created_at);
@@ -0,0 +1,11 @@
+-- 캐시 무효화 outbox (OutboxEvent, CacheInvalidationPoller 가 seq 순서대로 읽음)
+-- 기본 DB에서 실행
+CREATE TABLE IF NOT EXISTS cache_outbox (
+    seq         BIGINT      NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(10) NOT NULL,
+    change_type VARCHAR(10) NOT NULL,           -- CREATED / UPDATED / DELETED
+    entity_id   BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (seq),
+    INDEX idx_cache_outbox_created_at (created_at)      -- 오래된 이벤트 정리 (deleteCreatedBefore)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- 이메일 중복 가입 방지 (UserService.isDuplicateEmail 이 EXIST_EMAIL 로 변환)
+-- 이미 중복된 이메일이 있으면 실패하므로 먼저 확인하고 정리한 뒤 실행
+--   SELECT email, COUNT(*) FROM member GROUP BY email HAVING COUNT(*) > 1;
+ALTER TABLE member ADD CONSTRAINT uk_member_email UNIQUE (email);
@@ -0,0 +1,9 @@
+-- 유저별 게시글 수 / 마지막 작성 시간 (UserPostStats)
+-- 기본 DB에서 실행. 기존 유저의 행은 만들지 않아도 됨 (작성 시 upsert, 나머지는 UserPostStatsReconciler 가 채움)
+CREATE TABLE IF NOT EXISTS user_post_stats (
+    user_id      BIGINT      NOT NULL,          -- ON DUPLICATE KEY UPDATE 의 기준
+    post_count   BIGINT      NOT NULL,
+    last_post_at DATETIME(6) NULL,
+    updated_at   DATETIME(6) NOT NULL,          -- 보정 작업의 비교 기준
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
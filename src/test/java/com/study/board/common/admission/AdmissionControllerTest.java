@@ -0,0 +1,51 @@
+package com.study.board.common.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경로 그룹 분류와 그룹별 한도 / 거절 메트릭 확인
+ */
+class AdmissionControllerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void classifiesRoutesIntoGroups() {
+        AdmissionController controller = new AdmissionController(new AdmissionProperties(), meterRegistry);
+
+        assertThat(controller.classify(new MockHttpServletRequest("POST", "/user/login"))).isEqualTo(AdmissionController.RouteGroup.AUTH);
+        assertThat(controller.classify(new MockHttpServletRequest("POST", "/user/signup"))).isEqualTo(AdmissionController.RouteGroup.AUTH);
+        assertThat(controller.classify(new MockHttpServletRequest("GET", "/"))).isEqualTo(AdmissionController.RouteGroup.FEED);
+        assertThat(controller.classify(new MockHttpServletRequest("GET", "/board"))).isEqualTo(AdmissionController.RouteGroup.FEED);
+        assertThat(controller.classify(new MockHttpServletRequest("POST", "/board/add"))).isEqualTo(AdmissionController.RouteGroup.WRITES);
+        assertThat(controller.classify(new MockHttpServletRequest("DELETE", "/board"))).isEqualTo(AdmissionController.RouteGroup.WRITES);
+        assertThat(controller.classify(new MockHttpServletRequest("GET", "/actuator/health"))).isNull();
+    }
+
+    @Test
+    void disabledControllerClassifiesNothing() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setEnabled(false);
+        AdmissionController controller = new AdmissionController(properties, meterRegistry);
+
+        assertThat(controller.classify(new MockHttpServletRequest("GET", "/"))).isNull();
+    }
+
+    @Test
+    void groupsHaveIndependentLimitsAndCountRejections() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.getWrites().setInitialLimit(2);
+        AdmissionController controller = new AdmissionController(properties, meterRegistry);
+
+        assertThat(controller.tryAcquire(AdmissionController.RouteGroup.WRITES)).isTrue();
+        assertThat(controller.tryAcquire(AdmissionController.RouteGroup.WRITES)).isTrue();
+        assertThat(controller.tryAcquire(AdmissionController.RouteGroup.WRITES)).isFalse();
+        assertThat(controller.tryAcquire(AdmissionController.RouteGroup.FEED)).isTrue();       // 다른 그룹은 영향 없음
+
+        assertThat(meterRegistry.get("admission.rejected").tag("group", "writes").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("admission.inflight").tag("group", "writes").gauge().value()).isEqualTo(2);
+    }
+}
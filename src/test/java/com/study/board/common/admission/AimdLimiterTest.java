@@ -0,0 +1,94 @@
+package com.study.board.common.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 빠른 응답에서는 요청마다 1 / limit 씩 (= limit 개마다 +1) 올리고, 느린 응답 / 오류에서는 latencyThreshold 에 한 번만 곱해서 줄이는지 확인
+ */
+class AimdLimiterTest {
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void rejectsOverTheLimit() {
+        AimdLimiter limiter = limiter(3, 1, 10);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+
+        limiter.release(FAST, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void increasesAdditivelyWhileBusy() {
+        AimdLimiter limiter = limiter(10, 1, 12);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();       // 한도의 절반을 계속 사용 중
+        }
+
+        double expected = 10;
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+            expected += 1 / expected;
+        }
+        assertThat(limiter.getLimit()).isCloseTo(expected, within(1e-9));
+        assertThat(limiter.getLimit()).isBetween(10.9, 11.0);      // limit 개 요청에 약 +1
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(12);       // maxLimit 에서 멈춤
+    }
+
+    @Test
+    void doesNotIncreaseWhileIdle() {
+        AimdLimiter limiter = limiter(10, 1, 100);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void backsOffMultiplicativelyOncePerThreshold() {
+        AimdLimiter limiter = limiter(100, 10, 200);
+        clock.addAndGet(THRESHOLD);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);       // 같은 구간에 끝난 느린 응답들은 한 번만 줄임
+        }
+        assertThat(limiter.getLimit()).isCloseTo(90, within(1e-9));
+
+        clock.addAndGet(THRESHOLD);
+        limiter.tryAcquire();
+        limiter.release(FAST, true);        // 서버 오류도 과부하 신호
+        assertThat(limiter.getLimit()).isCloseTo(81, within(1e-9));
+
+        for (int i = 0; i < 100; i++) {
+            clock.addAndGet(THRESHOLD);
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);       // minLimit 아래로 내려가지 않음
+    }
+
+    private AimdLimiter limiter(int initial, int min, int max) {
+        return new AimdLimiter(initial, min, max, THRESHOLD, 0.9, clock::get);
+    }
+}
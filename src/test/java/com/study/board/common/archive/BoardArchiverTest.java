@@ -0,0 +1,134 @@
+package com.study.board.common.archive;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.common.stats.UserPostStatsReconciler;
+import com.study.board.entity.Board;
+import com.study.board.entity.User;
+import com.study.board.model.board.GetBoardBatchRes;
+import com.study.board.model.board.GetBoardRes;
+import com.study.board.model.board.PostBoardReq;
+import com.study.board.model.user.AuthUser;
+import com.study.board.repository.BoardArchiveRepository;
+import com.study.board.repository.BoardRepository;
+import com.study.board.repository.UserRepository;
+import com.study.board.service.BoardService;
+import com.study.board.service.UserService;
+import com.study.board.support.MemberSelectCounter;
+import com.study.board.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 삭제는 INACTIVE 표시만 하고, 아카이브 작업이 삭제된 / 오래된 게시글을 boards 에서 옮긴 뒤에도
+ * 오래된 게시글은 단건 조회로 읽히고 삭제된 게시글은 읽히지 않는지 확인
+ * 아카이브에서 여러 건을 읽을 때 작성자는 IN 쿼리 한 번으로 가져오는지 확인
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = {"warmup.enabled=false", "board.archive.pause=0ms", MemberSelectCounter.PROPERTY})
+class BoardArchiverTest {
+    @Autowired
+    private BoardArchiver boardArchiver;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserPostStatsReconciler reconciler;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void movesDeletedAndExpiredBoardsAndKeepsOldOnesReadable() {
+        User writer = TestUsers.save(userRepository, "archive");
+        for (int i = 0; i < 3; i++) {
+            boardService.saveBoard(AuthUser.of(writer), new PostBoardReq("title " + i, "content " + i));
+        }
+        List<Long> ids = boardRepository.findAll().stream()
+                .filter(board -> board.getUser().getId().equals(writer.getId()))
+                .map(Board::getId)
+                .collect(Collectors.toList());
+        Long deletedId = ids.get(0);
+        Long oldId = ids.get(1);
+        Long recentId = ids.get(2);
+
+        boardService.deleteBoard(AuthUser.of(writer), deletedId);
+        assertThat(boardRepository.findById(deletedId)).isPresent();        // 행은 남아 있음
+        jdbcTemplate.update("UPDATE boards SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(400)), oldId);
+
+        assertThat(boardArchiver.archive()).isGreaterThanOrEqualTo(2);
+
+        assertThat(boardRepository.findById(deletedId)).isEmpty();
+        assertThat(boardRepository.findById(oldId)).isEmpty();
+        assertThat(boardRepository.findById(recentId)).isPresent();
+        assertThat(boardArchiveRepository.findById(oldId)).isPresent();
+
+        assertThat(boardService.viewSingleBoard(oldId).getTitle()).isEqualTo("title 1");
+        assertThatThrownBy(() -> boardService.viewSingleBoard(deletedId))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getStatus())
+                .isEqualTo(BaseResponseStatus.NON_EXIST_ARTICLE);
+
+        // 아카이브된 게시글도 유저의 글로 셈
+        reconciler.reconcile();
+        assertThat(userService.getUserById(writer.getId()).getPostCount()).isEqualTo(2L);
+
+        // 아카이브된 게시글도 작성자가 삭제할 수 있음
+        boardService.deleteBoard(AuthUser.of(writer), oldId);
+        assertThatThrownBy(() -> boardService.viewSingleBoard(oldId)).isInstanceOf(BaseException.class);
+        assertThat(userService.getUserById(writer.getId()).getPostCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void archivedBatchLoadsWritersInOneQuery() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User writer = TestUsers.save(userRepository, "archived" + i);
+            boardService.saveBoard(AuthUser.of(writer), new PostBoardReq("archived " + i, "content"));
+            Long boardId = boardRepository.findAll().stream()
+                    .filter(board -> board.getUser().getId().equals(writer.getId()))
+                    .map(Board::getId)
+                    .findFirst()
+                    .orElseThrow();
+            jdbcTemplate.update("UPDATE boards SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(LocalDateTime.now().minusDays(400)), boardId);
+            ids.add(boardId);
+        }
+        boardArchiver.archive();
+        assertThat(boardRepository.findAllById(ids)).isEmpty();
+
+        MemberSelectCounter.reset();
+        GetBoardBatchRes res = boardService.viewBoardsByIds(ids);
+
+        assertThat(res.getMissingIds()).isEmpty();
+        assertThat(res.getBoards()).extracting(GetBoardRes::getBoardId).containsExactlyElementsOf(ids);
+        assertThat(res.getBoards()).allSatisfy(board -> assertThat(board.getWriter()).isNotNull());
+        assertThat(MemberSelectCounter.count()).isEqualTo(1);
+    }
+}
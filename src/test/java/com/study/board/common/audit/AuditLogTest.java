@@ -0,0 +1,56 @@
+package com.study.board.common.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파일을 열 수 없는 동안 writer 스레드가 끝나지 않고 재시도하다가, 다시 열 수 있게 되면 밀린 이벤트를 모두 쓰는지 확인
+ */
+class AuditLogTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void writerSurvivesIoFailuresAndCatchesUp() throws Exception {
+        Path file = dir.resolve("audit.log");
+        Files.createDirectory(file);        // 같은 경로에 디렉터리가 있어서 파일을 열 수 없음
+
+        AuditLog auditLog = new AuditLog(file.toString(), 1024, 16, AuditLog.OverflowPolicy.DROP, 5, new SimpleMeterRegistry());
+        auditLog.start();
+        try {
+            for (int i = 0; i < 100; i++) {
+                auditLog.publish(AuditEvent.Type.BOARD_CREATED, (long) i, String.valueOf(i));
+            }
+            awaitUntil(() -> auditLog.getFailures() >= 2);
+            assertThat(auditLog.isHealthy()).isFalse();
+            assertThat(auditLog.getWritten()).isZero();
+
+            Files.delete(file);
+
+            awaitUntil(() -> auditLog.getWritten() == 100);
+            assertThat(auditLog.isHealthy()).isTrue();
+            assertThat(auditLog.getDropped()).isZero();
+        } finally {
+            auditLog.stop();
+        }
+        assertThat(Files.readAllLines(file)).hasSize(100);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met in 10s");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.study.board.common.cache;
+
+import com.study.board.BoardApplication;
+import com.study.board.common.stream.BoardEvent;
+import com.study.board.common.stream.BoardEventStream;
+import com.study.board.entity.OutboxEvent;
+import com.study.board.entity.User;
+import com.study.board.model.board.PostBoardReq;
+import com.study.board.model.user.AuthUser;
+import com.study.board.model.user.SignUpUserReq;
+import com.study.board.repository.BoardRepository;
+import com.study.board.repository.OutboxEventRepository;
+import com.study.board.repository.UserRepository;
+import com.study.board.service.BoardService;
+import com.study.board.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import javax.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 임베디드 DB를 쓰는 앱 컨텍스트 두 개(노드 A, B)로 outbox 무효화를 검증
+ * A에서 변경하면 B가 outbox를 폴링해서 자기 로컬 캐시를 비우고, B의 SSE 구독자에게도 전달해야 함
+ */
+class CacheInvalidationOutboxTest {
+    private static final String SHARED_DB =
+            "jdbc:h2:mem:outbox-shared;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO cache_outbox (seq, entity_type, change_type, entity_id, created_at) VALUES (?, ?, 'UPDATED', ?, ?)";
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node("create");
+        nodeB = node("none");       // 스키마는 A가 만듦
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void writesOnOneNodeInvalidateTheOtherNodesCaches() {
+        nodeA.getBean(UserService.class).createUser(new SignUpUserReq("outbox", 20, "outbox@board.test", "Outbox1234!"));
+        Long userId = nodeA.getBean(UserRepository.class).findByEmail("outbox@board.test").orElseThrow().getId();
+
+        // B의 2차 캐시에 유저 적재
+        nodeB.getBean(UserRepository.class).findById(userId);
+        EntityManagerFactory entityManagerFactoryB = nodeB.getBean(EntityManagerFactory.class);
+        assertThat(entityManagerFactoryB.getCache().contains(User.class, userId)).isTrue();
+
+        BoardService boardServiceA = nodeA.getBean(BoardService.class);
+        AuthUser authUser = AuthUser.of(nodeA.getBean(UserRepository.class).findById(userId).orElseThrow());
+        boardServiceA.saveBoard(authUser, new PostBoardReq("title", "content"));
+        Long boardId = nodeA.getBean(BoardRepository.class).findAll().get(0).getId();
+        boardServiceA.updateBoard(authUser, boardId, new PostBoardReq("title2", "content2"));
+
+        CacheInvalidationPoller pollerB = nodeB.getBean(CacheInvalidationPoller.class);
+        pollerB.poll();
+
+        RecordingListener recorded = nodeB.getBean(RecordingListener.class);
+        assertThat(recorded.events).containsExactly(
+                "USER:" + userId,
+                "BOARD:" + boardId,
+                "BOARD:" + boardId);
+        assertThat(entityManagerFactoryB.getCache().contains(User.class, userId)).isFalse();
+        assertThat(pollerB.getPosition()).isEqualTo(nodeB.getBean(OutboxEventRepository.class).findMaxSeq());
+
+        // 이미 처리한 이벤트는 다시 전달하지 않음
+        pollerB.poll();
+        assertThat(recorded.events).hasSize(3);
+    }
+
+    @Test
+    void boardChangesOnOneNodeReachTheOtherNodesStream() throws Exception {
+        nodeA.getBean(UserService.class).createUser(new SignUpUserReq("stream", 20, "stream@board.test", "Stream1234!"));
+        AuthUser authUser = AuthUser.of(nodeA.getBean(UserRepository.class).findByEmail("stream@board.test").orElseThrow());
+        BoardService boardServiceA = nodeA.getBean(BoardService.class);
+        CacheInvalidationPoller pollerB = nodeB.getBean(CacheInvalidationPoller.class);
+
+        List<BoardEvent> received = new CopyOnWriteArrayList<>();
+        nodeB.getBean(BoardEventStream.class).subscribe(null, new BoardEventStream.Sink() {
+            @Override
+            public void send(BoardEvent event) {
+                if (event.getType() != BoardEvent.Type.HEARTBEAT) {
+                    received.add(event);
+                }
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        boardServiceA.saveBoard(authUser, new PostBoardReq("title", "content"));
+        Long boardId = nodeA.getBean(BoardRepository.class).findAll().get(0).getId();
+        pollerB.poll();
+        boardServiceA.updateBoard(authUser, boardId, new PostBoardReq("title2", "content2"));
+        pollerB.poll();
+        boardServiceA.deleteBoard(authUser, boardId);
+        pollerB.poll();
+        pollerB.poll();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(received).extracting(BoardEvent::getType)
+                .containsExactly(BoardEvent.Type.CREATED, BoardEvent.Type.UPDATED, BoardEvent.Type.DELETED);
+        assertThat(received).extracting(BoardEvent::getBoardId).containsOnly(boardId);
+        assertThat(received.get(1).getData()).contains("title2");
+    }
+
+    @Test
+    void seqCommittedAfterGapTimeoutIsStillApplied() {
+        CacheInvalidationPoller pollerB = nodeB.getBean(CacheInvalidationPoller.class);
+        RecordingListener recorded = nodeB.getBean(RecordingListener.class);
+        JdbcTemplate jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        long start = pollerB.getPosition();
+        Timestamp old = Timestamp.valueOf(LocalDateTime.now().minusMinutes(1));       // gap-timeout 이 지난 이벤트
+
+        // start + 1 은 번호만 받고 아직 커밋되지 않은 상태
+        jdbcTemplate.update(INSERT_EVENT, start + 2, "BOARD", 2L, old);
+        pollerB.poll();
+        assertThat(pollerB.getPosition()).isEqualTo(start + 2);
+        assertThat(pollerB.getTrackedGaps()).isEqualTo(1);
+        assertThat(recorded.events).containsExactly("BOARD:2");
+
+        // 늦게 커밋됨
+        jdbcTemplate.update(INSERT_EVENT, start + 1, "BOARD", 1L, old);
+        pollerB.poll();
+        assertThat(recorded.events).containsExactly("BOARD:2", "BOARD:1");
+        assertThat(pollerB.getTrackedGaps()).isZero();
+
+        pollerB.poll();
+        assertThat(recorded.events).hasSize(2);
+    }
+
+    private static ConfigurableApplicationContext node(String ddlAuto) {
+        return new SpringApplicationBuilder(BoardApplication.class, RecordingListener.class, IsolatedCacheManager.class)
+                .profiles("local")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + SHARED_DB,
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "warmup.enabled=false",
+                        "cache.outbox.poll-interval=3600000")      // 테스트에서 직접 poll() 호출
+                .run();
+    }
+
+    // 같은 JVM의 두 노드가 하나의 JCache CacheManager(= 같은 2차 캐시)를 공유하지 않도록 노드마다 따로 만듦
+    static class IsolatedCacheManager implements HibernatePropertiesCustomizer {
+        @Override
+        public void customize(Map<String, Object> hibernateProperties) {
+            try {
+                CachingProvider provider = Caching.getCachingProvider("org.ehcache.jsr107.EhcacheCachingProvider");
+                ClassLoader classLoader = new ClassLoader(CacheInvalidationOutboxTest.class.getClassLoader()) {
+                };
+                URI config = classLoader.getResource("ehcache.xml").toURI();
+                hibernateProperties.put("hibernate.javax.cache.cache_manager", provider.getCacheManager(config, classLoader));
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    static class RecordingListener implements CacheInvalidationListener {
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void invalidate(OutboxEvent event) {
+            events.add(event.getEntityType() + ":" + event.getEntityId());
+        }
+    }
+}
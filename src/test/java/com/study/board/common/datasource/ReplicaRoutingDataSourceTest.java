@@ -0,0 +1,138 @@
+package com.study.board.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 H2 두 개(primary, replica)로 라우팅을 검증
+ * 각 DB의 node 테이블에 자기 이름을 넣어두고 어느 쪽에서 읽었는지 확인함
+ */
+class ReplicaRoutingDataSourceTest {
+    private final AtomicReference<Long> currentUserId = new AtomicReference<>();
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing-primary", "primary");
+        replica = h2("routing-replica", "replica");
+        currentUserId.set(null);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        Routing routing = routing(List.of(replica));
+
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+    }
+
+    @Test
+    void writerReadsOwnWritesFromPrimaryWithinStickyWindow() {
+        Routing routing = routing(List.of(replica));
+
+        currentUserId.set(1L);
+        routing.write();
+        assertThat(routing.read()).isEqualTo("primary");
+
+        // 다른 유저는 영향 없음
+        currentUserId.set(2L);
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void unhealthyReplicaIsSkipped() {
+        Routing routing = routing(List.of(new DownDataSource(), replica));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(routing.read()).isEqualTo("replica");
+        }
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenAllReplicasAreDown() {
+        Routing routing = routing(List.of(new DownDataSource()));
+
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void connectionWithCredentialsIsRoutedTheSameWay() {
+        // 계정을 지정한 프록시는 getConnection(username, password) 로 커넥션을 얻음
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routingDataSource(List.of(new DownDataSource(), replica)));
+        proxy.setUsername("sa");
+        proxy.setPassword("");
+        Routing routing = new Routing(proxy);
+
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+    }
+
+    private Routing routing(List<DataSource> replicas) {
+        return new Routing(new LazyConnectionDataSourceProxy(routingDataSource(replicas)));
+    }
+
+    private ReplicaRoutingDataSource routingDataSource(List<DataSource> replicas) {
+        return new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(10), currentUserId::get);
+    }
+
+    private static DataSource h2(String database, String nodeName) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", nodeName);
+        return dataSource;
+    }
+
+    private static class Routing {
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        Routing(DataSource dataSource) {
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        String read() {
+            return readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        String write() {
+            return readWrite.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+    }
+
+    private static class DownDataSource extends AbstractDataSource {
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("replica is down");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLException("replica is down");
+        }
+    }
+}
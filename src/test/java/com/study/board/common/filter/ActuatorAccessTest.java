@@ -0,0 +1,49 @@
+package com.study.board.common.filter;
+
+import com.study.board.entity.User;
+import com.study.board.repository.UserRepository;
+import com.study.board.support.TestUsers;
+import com.study.board.util.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * health 는 토큰 없이 열려 있고, metrics 는 토큰이 있어야 읽을 수 있는지 확인
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = "warmup.enabled=false")
+@AutoConfigureMockMvc
+class ActuatorAccessTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void healthIsOpenAndMetricsNeedToken() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(jsonPath("$.status").exists());      // 토큰 오류 응답이 아니라 health 응답
+
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(jsonPath("$.isSuccess").value(false))
+                .andExpect(jsonPath("$.names").doesNotExist());
+
+        User user = TestUsers.save(userRepository, "metrics");
+        String token = jwtUtils.generateToken(user.getId(), user.getRole().toString()).get("accessToken");
+        mockMvc.perform(get("/actuator/metrics").header("X-ACCESS-TOKEN", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.names").isArray());
+    }
+}
@@ -0,0 +1,35 @@
+package com.study.board.common.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtFilter 가 서블릿 필터로 따로 등록되지 않고 security filter chain 에서만 한 번 실행되는지 확인
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = "warmup.enabled=false")
+class JwtFilterRegistrationTest {
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private FilterChainProxy filterChainProxy;
+
+    @Test
+    void jwtFilterRunsOnlyInSecurityChain() {
+        // Spring Boot 는 Filter 타입 빈을 모두 서블릿 필터로 등록함
+        assertThat(context.getBeanNamesForType(JwtFilter.class)).isEmpty();
+        assertThat(context.getBeansOfType(FilterRegistrationBean.class).values())
+                .noneMatch(registration -> registration.getFilter() instanceof JwtFilter);
+
+        assertThat(filterChainProxy.getFilterChains())
+                .allSatisfy(chain -> assertThat(chain.getFilters()).filteredOn(JwtFilter.class::isInstance).hasSize(1));
+    }
+}
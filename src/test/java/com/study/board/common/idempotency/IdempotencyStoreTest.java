@@ -0,0 +1,128 @@
+package com.study.board.common.idempotency;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponse;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.support.StressRunner;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 키의 동시 요청은 한 번만 처리되고, 성공만 ttl 동안 보관되며, max-entries 를 넘으면 먼저 완료된 항목부터 지워지는지 확인
+ */
+class IdempotencyStoreTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void concurrentDuplicatesRunTheActionOnce() throws Exception {
+        IdempotencyStore store = store(100);
+
+        StressRunner.Result result = StressRunner.run(16, 1, (thread, i) -> {
+            BaseResponse<String> response = store.execute(1L, "key", () -> {
+                calls.incrementAndGet();
+                pause(200);       // 다른 스레드들이 처리 중인 항목을 기다리게 함
+                return new BaseResponse<>("created");
+            });
+            assertThat(response.getResult()).isEqualTo("created");
+        });
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void keysAreScopedPerUser() {
+        IdempotencyStore store = store(100);
+
+        store.execute(1L, "key", this::success);
+        store.execute(2L, "key", this::success);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        IdempotencyStore store = store(100);
+
+        BaseResponse<String> failed = store.execute(1L, "key", () -> {
+            calls.incrementAndGet();
+            return new BaseResponse<>(BaseResponseStatus.DATABASE_INSERT_ERROR);
+        });
+        assertThat(failed.getIsSuccess()).isFalse();
+
+        assertThatThrownBy(() -> store.execute(1L, "key", () -> {
+            calls.incrementAndGet();
+            throw new BaseException(BaseResponseStatus.DATABASE_INSERT_ERROR);
+        })).isInstanceOf(BaseException.class);
+
+        assertThat(store.execute(1L, "key", this::success).getIsSuccess()).isTrue();
+        assertThat(store.execute(1L, "key", this::success).getIsSuccess()).isTrue();
+        assertThat(calls.get()).isEqualTo(3);       // 성공한 뒤에만 보관된 응답을 받음
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void successesExpireAfterTtl() {
+        IdempotencyStore store = store(100);
+        store.execute(1L, "key", this::success);
+
+        clock.addAndGet(TTL.toMillis());
+        store.execute(1L, "key", this::success);
+        assertThat(calls.get()).isEqualTo(1);       // ttl 이 딱 지난 시점까지는 보관
+
+        clock.addAndGet(1);
+        store.execute(1L, "key", this::success);
+        assertThat(calls.get()).isEqualTo(2);
+
+        clock.addAndGet(TTL.toMillis() + 1);
+        store.evictExpired();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void evictsOldestCompletedEntryOverCapacity() {
+        IdempotencyStore store = store(2);
+
+        store.execute(1L, "a", this::success);
+        clock.addAndGet(TTL.toMillis() + 1);
+        store.execute(1L, "b", this::success);
+        store.execute(1L, "a", this::success);      // 만료된 a 를 다시 처리 (큐에는 예전 a 가 남아 있음)
+        store.execute(1L, "c", this::success);      // 한도 초과: 예전 a 는 건너뛰고 b 를 지워야 함
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(store.size()).isEqualTo(2);
+
+        store.execute(1L, "a", this::success);
+        store.execute(1L, "c", this::success);
+        assertThat(calls.get()).isEqualTo(4);       // a, c 는 보관되어 있음
+
+        store.execute(1L, "b", this::success);
+        assertThat(calls.get()).isEqualTo(5);
+    }
+
+    private BaseResponse<String> success() {
+        calls.incrementAndGet();
+        return new BaseResponse<>("created");
+    }
+
+    private IdempotencyStore store(int maxEntries) {
+        return new IdempotencyStore(TTL, maxEntries, Duration.ofSeconds(5), clock::get);
+    }
+
+    private static void pause(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
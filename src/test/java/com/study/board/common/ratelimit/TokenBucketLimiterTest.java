@@ -0,0 +1,94 @@
+package com.study.board.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 계산(버스트, 재충전), 유휴 버킷 정리, 키 수 한도에서의 동작(fail open)을 시간을 직접 움직여서 확인
+ */
+class TokenBucketLimiterTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void allowsBurstThenRefillsOneTokenPerInterval() {
+        // 초당 2개 (interval 500ms), 버스트 3
+        TokenBucketLimiter<String> limiter = new TokenBucketLimiter<>(2, 3, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+
+        clock.addAndGet(SECOND / 2 - 1);
+        assertThat(limiter.tryAcquire("a")).isFalse();      // interval 이 다 지나기 전
+        clock.addAndGet(1);
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+
+        // 오래 쉬어도 버스트 이상은 쌓이지 않음
+        clock.addAndGet(60 * SECOND);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a")).isTrue();
+        }
+        assertThat(limiter.tryAcquire("a")).isFalse();
+
+        // 키끼리 독립
+        assertThat(limiter.tryAcquire("b")).isTrue();
+    }
+
+    @Test
+    void burstOfOneAllowsExactlyOnePerInterval() {
+        TokenBucketLimiter<Long> limiter = new TokenBucketLimiter<>(1, 1, 100, clock::get);
+
+        assertThat(limiter.tryAcquire(1L)).isTrue();
+        assertThat(limiter.tryAcquire(1L)).isFalse();
+        clock.addAndGet(SECOND);
+        assertThat(limiter.tryAcquire(1L)).isTrue();
+        assertThat(limiter.tryAcquire(1L)).isFalse();
+    }
+
+    @Test
+    void evictIdleRemovesOnlyFullBuckets() {
+        TokenBucketLimiter<String> limiter = new TokenBucketLimiter<>(1, 2, 100, clock::get);
+        limiter.tryAcquire("idle");
+        clock.addAndGet(2 * SECOND);
+        limiter.tryAcquire("busy");
+        limiter.tryAcquire("busy");
+
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy")).isFalse();      // 정리 후에도 남은 버킷의 상태는 유지
+    }
+
+    @Test
+    void failsOpenForNewKeysWhenFullWithoutEvictingOnRequestPath() {
+        TokenBucketLimiter<String> limiter = new TokenBucketLimiter<>(1, 1, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        clock.addAndGet(10 * SECOND);      // a, b 모두 정리 대상이 됨
+
+        // 새 키는 버킷 없이 통과하고, 요청 경로에서는 정리하지 않음
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("spray-" + i)).isTrue();
+        }
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.overflowed()).isEqualTo(5);
+
+        // 이미 있는 키는 계속 제한됨
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+
+        // 스케줄러가 정리한 뒤에는 새 키도 다시 제한됨
+        clock.addAndGet(10 * SECOND);
+        limiter.evictIdle();
+        assertThat(limiter.tryAcquire("c")).isTrue();
+        assertThat(limiter.tryAcquire("c")).isFalse();
+    }
+}
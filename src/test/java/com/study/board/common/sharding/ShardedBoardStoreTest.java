@@ -0,0 +1,147 @@
+package com.study.board.common.sharding;
+
+import com.study.board.common.id.TimeOrderedIdGenerator;
+import com.study.board.model.board.BoardRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 임베디드 H2 세 개를 샤드로 사용해서 라우팅과 피드 병합을 검증
+ */
+class ShardedBoardStoreTest {
+    private static final int SHARDS = 3;
+
+    private ShardedBoardStore store;
+    private ShardRouter router;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString();
+        List<DataSource> dataSources = IntStream.range(0, SHARDS)
+                .mapToObj(i -> (DataSource) new DriverManagerDataSource(
+                        "jdbc:h2:mem:shard-" + i + "-" + run + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""))
+                .collect(Collectors.toList());
+        router = new ShardRouter(Collections.nCopies(SHARDS, null));
+        store = new ShardedBoardStore(dataSources, router, new TimeOrderedIdGenerator(1));
+        store.initializeSchema();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void boardsAreStoredOnTheShardOfTheirWriter() {
+        for (long userId = 1; userId <= 200; userId++) {
+            long boardId = store.insert(userId, "title", "content " + userId);
+
+            assertThat(router.shardOfBoard(boardId)).isEqualTo(router.shardOfUser(userId));
+            assertThat(store.findById(boardId)).get().extracting(BoardRow::getUserId).isEqualTo(userId);
+        }
+
+        Map<Integer, Long> counts = store.countByShard();
+        assertThat(counts.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(200);
+        assertThat(counts.values()).allMatch(count -> count > 0);
+    }
+
+    @Test
+    void feedMergesShardsNewestFirstWithoutGapsOrDuplicates() {
+        List<Long> inserted = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inserted.add(store.insert(i % 17 + 1, "title " + i, "content"));
+        }
+        inserted.sort(Comparator.reverseOrder());
+
+        List<Long> paged = new ArrayList<>();
+        Long cursor = null;
+        while (true) {
+            List<BoardRow> page = store.feed(cursor, 7);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(row -> paged.add(row.getId()));
+            cursor = page.get(page.size() - 1).getId();
+        }
+
+        assertThat(paged).isEqualTo(inserted);
+    }
+
+    @Test
+    void updateAndDeleteOnlyTouchTheOwningShard() {
+        long boardId = store.insert(42L, "before", "content");
+
+        assertThat(store.update(boardId, "after", "changed")).isEqualTo(1);
+        assertThat(store.findById(boardId)).get().extracting(BoardRow::getTitle).isEqualTo("after");
+
+        assertThat(store.delete(boardId)).isEqualTo(1);
+        assertThat(store.findById(boardId)).isEmpty();
+        assertThat(store.findByUser(42L, null, 10)).isEmpty();
+    }
+
+    @Test
+    void findByIdsQueriesEachShardOnce() {
+        List<Long> ids = new ArrayList<>();
+        for (long userId = 1; userId <= 30; userId++) {
+            ids.add(store.insert(userId, "title", "content"));
+        }
+
+        List<BoardRow> rows = store.findByIds(ids);
+
+        assertThat(rows.stream().map(BoardRow::getId).collect(Collectors.toSet())).isEqualTo(new HashSet<>(ids));
+    }
+
+    @Test
+    void idsAreUniqueAndIncreasingUnderConcurrency() throws InterruptedException {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3);
+        List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                long previous = 0;
+                for (int i = 0; i < 10_000; i++) {
+                    long id = generator.nextId(7);
+                    assertThat(id).isGreaterThan(previous);
+                    assertThat(TimeOrderedIdGenerator.bucketOf(id)).isEqualTo(7);
+                    previous = id;
+                    ids.add(id);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(new HashSet<>(ids)).hasSize(80_000);
+    }
+
+    @Test
+    void explicitBucketRangesMustCoverEveryBucket() {
+        ShardRouter ranged = new ShardRouter(List.of("0-99", "100-1023"));
+        for (long userId = 1; userId <= 1000; userId++) {
+            int bucket = ranged.bucketOfUser(userId);
+            assertThat(ranged.shardOfUser(userId)).isEqualTo(bucket < 100 ? 0 : 1);
+        }
+
+        assertThatThrownBy(() -> new ShardRouter(List.of("0-99", "200-1023")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.study.board.common.stats;
+
+import com.study.board.entity.Board;
+import com.study.board.entity.User;
+import com.study.board.model.board.PostBoardReq;
+import com.study.board.model.user.AuthUser;
+import com.study.board.model.user.GetUserRes;
+import com.study.board.repository.BoardRepository;
+import com.study.board.repository.UserRepository;
+import com.study.board.service.BoardService;
+import com.study.board.service.UserService;
+import com.study.board.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 작성/삭제 시 user_post_stats 가 함께 바뀌는지, 어긋난 값을 보정 작업이 boards 기준으로 맞추는지 확인
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = "warmup.enabled=false")
+class UserPostStatsTest {
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserPostStatsReconciler reconciler;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countersFollowWritesAndDeletes() {
+        User writer = TestUsers.save(userRepository, "writer");
+        assertThat(userService.getUserById(writer.getId()).getPostCount()).isZero();
+
+        for (int i = 0; i < 3; i++) {
+            boardService.saveBoard(AuthUser.of(writer), new PostBoardReq("title " + i, "content " + i));
+        }
+        Board first = boardRepository.findAll().stream()
+                .filter(board -> board.getUser().getId().equals(writer.getId()))
+                .findFirst()
+                .orElseThrow();
+        boardService.deleteBoard(AuthUser.of(writer), first.getId());
+
+        GetUserRes res = userService.getUserById(writer.getId());
+        assertThat(res.getPostCount()).isEqualTo(2L);
+        assertThat(res.getLastPostAt()).isNotNull();
+    }
+
+    @Test
+    void reconcileFixesDriftedCounters() {
+        User writer = TestUsers.save(userRepository, "drift");
+        boardService.saveBoard(AuthUser.of(writer), new PostBoardReq("title", "content"));
+        boardService.saveBoard(AuthUser.of(writer), new PostBoardReq("title", "content"));
+
+        // 카운터를 거치지 않은 변경 (JDBC로 직접 넣은 게시글처럼)
+        jdbcTemplate.update("UPDATE user_post_stats SET post_count = 42 WHERE user_id = ?", writer.getId());
+        User silent = TestUsers.save(userRepository, "silent");
+        boardRepository.save(Board.builder().title("title").content("content").user(silent).build());
+
+        assertThat(reconciler.reconcile()).isGreaterThanOrEqualTo(2);
+        assertThat(userService.getUserById(writer.getId()).getPostCount()).isEqualTo(2L);
+        assertThat(userService.getUserById(silent.getId()).getPostCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,234 @@
+package com.study.board.common.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구독자 수에 따른 전달 시간, 느린 구독자 차단, 막힌 write 의 send-timeout, Last-Event-ID 재전송 검증
+ */
+class BoardEventStreamTest {
+    private static final Logger log = LoggerFactory.getLogger(BoardEventStreamTest.class);
+    private static final int[] CONNECTION_COUNTS = {10, 100, 1_000, 5_000};
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoardEventStream stream;
+
+    @AfterEach
+    void tearDown() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Test
+    void fanOutScalesWithConnectionCount() throws Exception {
+        int events = 200;
+        for (int connections : CONNECTION_COUNTS) {
+            stream = stream(256, 1024, 4);
+            List<RecordingSink> sinks = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                RecordingSink sink = new RecordingSink(events);
+                stream.subscribe(null, sink);
+                sinks.add(sink);
+            }
+
+            long start = System.nanoTime();
+            for (long boardId = 1; boardId <= events; boardId++) {
+                stream.publishDeleted(boardId);
+            }
+            for (RecordingSink sink : sinks) {
+                assertThat(sink.done.await(30, TimeUnit.SECONDS)).isTrue();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            log.info("[board stream] connections={} events={} deliveries={} {} ms {} deliveries/s",
+                    connections, events, (long) connections * events, Math.round(seconds * 1000), Math.round(connections * events / seconds));
+
+            for (RecordingSink sink : sinks) {
+                assertThat(sink.boardIds()).hasSize(events).isSorted().doesNotHaveDuplicates();
+            }
+            stream.close();
+        }
+    }
+
+    @Test
+    void slowConsumerIsDisconnectedWithoutStallingOthers() throws Exception {
+        stream = stream(8, 1024, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingSink slow = new BlockingSink(release);
+        RecordingSink fast = new RecordingSink(100);
+        BoardEventStream.Subscriber slowSubscriber = stream.subscribe(null, slow);
+        stream.subscribe(null, fast);
+
+        for (long boardId = 1; boardId <= 100; boardId++) {
+            stream.publishDeleted(boardId);
+            long expected = boardId;
+            await(() -> fast.events.size() == expected);
+        }
+
+        assertThat(slowSubscriber.isClosed()).isTrue();
+        assertThat(stream.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("board.stream.slow-disconnects").count()).isEqualTo(1);
+        assertThat(fast.boardIds()).hasSize(100);
+
+        release.countDown();
+        await(() -> slow.closed);       // 보내던 스레드가 풀린 뒤 연결을 닫음
+    }
+
+    @Test
+    void blockedSendsDoNotHoldSenderThreads() throws Exception {
+        int senderThreads = 2;
+        stream = stream(256, 1024, senderThreads, Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        List<BlockingSink> blocked = new ArrayList<>();
+        List<BoardEventStream.Subscriber> blockedSubscribers = new ArrayList<>();
+        for (int i = 0; i < senderThreads; i++) {       // sender 스레드 수만큼 막힌 구독자 (큐는 넘치지 않음)
+            BlockingSink sink = new BlockingSink(release);
+            blockedSubscribers.add(stream.subscribe(null, sink));
+            blocked.add(sink);
+        }
+        RecordingSink fast = new RecordingSink(20);
+        stream.subscribe(null, fast);
+
+        for (long boardId = 1; boardId <= 20; boardId++) {
+            stream.publishDeleted(boardId);
+        }
+
+        await(() -> {
+            stream.checkWrites();       // 운영에서는 write-check-interval 마다
+            return fast.done.getCount() == 0 && blockedSubscribers.stream().allMatch(BoardEventStream.Subscriber::isClosed);
+        });
+        assertThat(fast.boardIds()).hasSize(20).isSorted();
+        assertThat(stream.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("board.stream.send-timeouts").count()).isEqualTo(senderThreads);
+        assertThat(meterRegistry.get("board.stream.stuck-writes").gauge().value()).isEqualTo(senderThreads);
+        assertThat(blocked).noneMatch(sink -> sink.closed);     // 막힌 write 가 끝나기 전에는 닫지 않음
+
+        release.countDown();
+        await(() -> blocked.stream().allMatch(sink -> sink.closed));
+        assertThat(meterRegistry.get("board.stream.stuck-writes").gauge().value()).isZero();
+    }
+
+    @Test
+    void lastEventIdReplaysMissedEvents() throws Exception {
+        stream = stream(256, 1024, 2);
+        RecordingSink first = new RecordingSink(5);
+        stream.subscribe(null, first);
+        for (long boardId = 1; boardId <= 5; boardId++) {
+            stream.publishDeleted(boardId);
+        }
+        assertThat(first.done.await(5, TimeUnit.SECONDS)).isTrue();
+        long secondEventId = first.events.get(1).getId();
+
+        // 두 번째 이벤트까지 받고 끊겼다가 재연결
+        RecordingSink resumed = new RecordingSink(4);
+        stream.subscribe(secondEventId, resumed);
+        stream.publishDeleted(6L);
+
+        assertThat(resumed.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(resumed.boardIds()).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void unknownOrEvictedLastEventIdGetsReset() throws Exception {
+        stream = stream(256, 4, 2);
+        RecordingSink first = new RecordingSink(10);
+        stream.subscribe(null, first);
+        for (long boardId = 1; boardId <= 10; boardId++) {
+            stream.publishDeleted(boardId);
+        }
+        assertThat(first.done.await(5, TimeUnit.SECONDS)).isTrue();
+
+        RecordingSink evicted = new RecordingSink(1);
+        stream.subscribe(first.events.get(0).getId(), evicted);     // replay 에서 이미 밀려난 id
+        RecordingSink restarted = new RecordingSink(1);
+        stream.subscribe(1L, restarted);                             // 재시작 전 프로세스의 id
+
+        assertThat(evicted.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(restarted.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(evicted.events.get(0).getType()).isEqualTo(BoardEvent.Type.RESET);
+        assertThat(restarted.events.get(0).getType()).isEqualTo(BoardEvent.Type.RESET);
+        assertThat(evicted.events.get(0).getId()).isEqualTo(first.events.get(9).getId());
+    }
+
+    private BoardEventStream stream(int bufferSize, int replaySize, int senderThreads) {
+        return stream(bufferSize, replaySize, senderThreads, Duration.ofSeconds(5));
+    }
+
+    private BoardEventStream stream(int bufferSize, int replaySize, int senderThreads, Duration sendTimeout) {
+        return new BoardEventStream(new ObjectMapper(), meterRegistry, bufferSize, replaySize, 10_000, senderThreads,
+                Duration.ofMinutes(1), sendTimeout, 64);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met in 10s");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    static class RecordingSink implements BoardEventStream.Sink {
+        final List<BoardEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch done;
+
+        RecordingSink(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(BoardEvent event) {
+            events.add(event);
+            done.countDown();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        List<Long> boardIds() {
+            return events.stream().map(BoardEvent::getBoardId).collect(Collectors.toList());
+        }
+    }
+
+    // 소켓 버퍼가 가득 찬 클라이언트처럼 send 에서 멈춤
+    static class BlockingSink implements BoardEventStream.Sink {
+        private final CountDownLatch release;
+        volatile boolean closed;
+
+        BlockingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(BoardEvent event) throws java.io.IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new java.io.IOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.study.board.common.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LongHashTable 기반 맵을 HashMap 과 같은 순서로 조작해서 결과를 비교
+ * 같은 슬롯으로 모이는 키(긴 탐색 경로), 삭제 후 당기기, 확장, retain 을 포함
+ */
+class LongHashMapTest {
+    @Test
+    void randomOperationsMatchHashMap() {
+        Random random = new Random(42);
+        LongDoubleHashMap map = new LongDoubleHashMap(4);       // 작게 시작해서 여러 번 확장
+        Map<Long, Double> expected = new HashMap<>();
+        List<Long> keys = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            keys.add(random.nextInt(4) == 0 ? (long) i << 40 : random.nextLong());     // 하위 비트가 같은 키 섞기
+        }
+
+        for (int op = 0; op < 200_000; op++) {
+            long key = keys.get(random.nextInt(keys.size()));
+            switch (random.nextInt(4)) {
+                case 0:
+                    double value = random.nextDouble();
+                    map.put(key, value);
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    double delta = random.nextDouble();
+                    assertThat(map.addTo(key, delta)).isEqualTo(expected.merge(key, delta, Double::sum));
+                    break;
+                case 2:
+                    map.remove(key);
+                    expected.remove(key);
+                    break;
+                default:
+                    assertThat(map.get(key, -1)).isEqualTo(expected.getOrDefault(key, -1.0));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        for (long key : keys) {
+            assertThat(map.get(key, -1)).isEqualTo(expected.getOrDefault(key, -1.0));
+        }
+    }
+
+    @Test
+    void removeKeepsCollidingKeysReachable() {
+        LongIntHashMap map = new LongIntHashMap(16);
+        // 모두 같은 홈 슬롯이 되지는 않더라도 연속된 클러스터를 만들고 중간부터 지움
+        for (int i = 0; i < 12; i++) {
+            map.put((long) i << 32, i);
+        }
+        for (int i = 0; i < 12; i += 3) {
+            map.remove((long) i << 32);
+        }
+        for (int i = 0; i < 12; i++) {
+            assertThat(map.get((long) i << 32, -1)).isEqualTo(i % 3 == 0 ? -1 : i);
+        }
+        assertThat(map.size()).isEqualTo(8);
+
+        map.remove(12345L);       // 없는 키
+        assertThat(map.size()).isEqualTo(8);
+    }
+
+    @Test
+    void removedSlotIsReusedWithoutStaleValue() {
+        LongDoubleHashMap map = new LongDoubleHashMap(4);
+        map.put(7L, 100);
+        map.remove(7L);
+
+        assertThat(map.addTo(7L, 1)).isEqualTo(1);
+        assertThat(map.get(7L, 0)).isEqualTo(1);
+    }
+
+    @Test
+    void scaleAllAndRetain() {
+        LongDoubleHashMap map = new LongDoubleHashMap(4);
+        for (long key = 1; key <= 100; key++) {
+            map.put(key, key);
+        }
+
+        map.scaleAll(0.5);
+        map.retain((key, value) -> value >= 25);
+
+        assertThat(map.size()).isEqualTo(51);
+        assertThat(map.get(49L, -1)).isEqualTo(-1);
+        assertThat(map.get(50L, -1)).isEqualTo(25);
+        assertThat(map.get(100L, -1)).isEqualTo(50);
+
+        map.put(1L, 1);       // retain 뒤에도 정상 동작
+        assertThat(map.get(1L, -1)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.study.board.common.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPercentage;
+
+/**
+ * 힙(sift up / down, 교체)과 landmark 이동 결과를 매번 직접 감쇠시켜 계산한 상위 K와 비교
+ */
+class TopKTrackerTest {
+    private static final long HALF_LIFE = 60_000;
+
+    @Test
+    void matchesBruteForceDecayedTopK() {
+        Random random = new Random(7);
+        long now = 1_000_000;
+        TopKTracker tracker = new TopKTracker(10, HALF_LIFE, 100_000, now);
+        Map<Long, Double> expected = new HashMap<>();       // 지금 시점 기준으로 감쇠한 점수
+
+        for (int i = 0; i < 20_000; i++) {
+            long elapsed = random.nextInt(500);
+            if (i % 5_000 == 0) {
+                elapsed = HALF_LIFE * 50;       // landmark 이동(rescale)이 일어나는 간격
+            }
+            now += elapsed;
+            double decay = Math.pow(0.5, (double) elapsed / HALF_LIFE);
+            expected.replaceAll((id, score) -> score * decay);
+
+            long id = random.nextInt(300);
+            double weight = 0.5 + random.nextDouble();
+            tracker.record(id, weight, now);
+            expected.merge(id, weight, Double::sum);
+
+            if (i % 97 == 0) {
+                assertThat(ids(tracker.top())).isEqualTo(bruteForceTop(expected, 10));
+            }
+        }
+        assertThat(ids(tracker.top())).isEqualTo(bruteForceTop(expected, 10));
+        long top = tracker.top()[0];
+        assertThat(tracker.currentScore(top, now)).isCloseTo(expected.get(top), withPercentage(1e-6));
+    }
+
+    @Test
+    void reportsEntriesAndEvictions() {
+        List<Long> evicted = new ArrayList<>();
+        TopKTracker tracker = new TopKTracker(2, HALF_LIFE, 100, 0) {
+            @Override
+            protected void evicted(long id) {
+                evicted.add(id);
+            }
+        };
+
+        assertThat(tracker.record(1, 1, 0)).isTrue();
+        assertThat(tracker.record(2, 2, 0)).isTrue();
+        assertThat(tracker.record(3, 0.5, 0)).isFalse();        // 최솟값보다 낮음
+        assertThat(tracker.record(1, 1.5, 0)).isFalse();        // 이미 들어 있음 (점수만 2.5로 증가, 최솟값은 2)
+        assertThat(tracker.record(3, 3, 0)).isTrue();           // 3.5 > 2 : 2가 밀려남
+
+        assertThat(evicted).containsExactly(2L);
+        assertThat(tracker.contains(2)).isFalse();
+        assertThat(ids(tracker.top())).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void pruningDropsOnlyCandidatesBelowTheHeap() {
+        TopKTracker tracker = new TopKTracker(3, HALF_LIFE, 10, 0);
+        for (long id = 1; id <= 3; id++) {
+            tracker.record(id, 100, 0);
+        }
+        for (long id = 10; id < 30; id++) {
+            tracker.record(id, 1, 0);       // 후보가 maxTracked 를 넘어서 정리됨
+        }
+
+        assertThat(ids(tracker.top())).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(tracker.currentScore(10, 0)).isZero();       // 정리된 후보는 0부터 다시 시작
+        assertThat(tracker.currentScore(1, 0)).isEqualTo(100);
+    }
+
+    private static List<Long> ids(long[] ids) {
+        List<Long> list = new ArrayList<>();
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    private static List<Long> bruteForceTop(Map<Long, Double> scores, int k) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,47 @@
+package com.study.board.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.board.model.board.GetBoardBatchRes;
+import com.study.board.model.board.GetBoardItemRes;
+import com.study.board.model.board.GetBoardRes;
+import com.study.board.model.jwt.PostJwtRes;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2^53 보다 큰 id 가 JSON 에서 문자열로 나가고, 다시 읽으면(인기 게시글 스냅샷) 같은 Long 이 되는지 확인
+ */
+class IdJsonTest {
+    private static final long ID = (1L << 53) + 1;      // double 로는 2^53 과 구분되지 않음
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void idsAreWrittenAsStrings() {
+        JsonNode board = objectMapper.valueToTree(GetBoardRes.builder().boardId(ID).title("title").build());
+        assertThat(board.get("boardId").isTextual()).isTrue();
+        assertThat(board.get("boardId").asText()).isEqualTo(String.valueOf(ID));
+
+        JsonNode item = objectMapper.valueToTree(new GetBoardItemRes(ID, ID + 1, "title", "content", null));
+        assertThat(item.get("boardId").asText()).isEqualTo(String.valueOf(ID));
+        assertThat(item.get("writerId").isTextual()).isTrue();
+        assertThat(item.get("writerId").asText()).isEqualTo(String.valueOf(ID + 1));
+
+        JsonNode batch = objectMapper.valueToTree(new GetBoardBatchRes(List.of(), List.of(ID)));
+        assertThat(batch.get("missingIds").get(0).isTextual()).isTrue();
+
+        JsonNode jwt = objectMapper.valueToTree(new PostJwtRes(ID, "access", "refresh"));
+        assertThat(jwt.get("userId").asText()).isEqualTo(String.valueOf(ID));
+    }
+
+    @Test
+    void stringIdReadsBackAsTheSameLong() throws Exception {
+        String json = objectMapper.writeValueAsString(GetBoardRes.builder().boardId(ID).build());
+
+        assertThat(objectMapper.readValue(json, GetBoardRes.class).getBoardId()).isEqualTo(ID);
+    }
+}
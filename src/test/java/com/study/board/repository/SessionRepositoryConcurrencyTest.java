@@ -0,0 +1,69 @@
+package com.study.board.repository;
+
+import com.study.board.support.StressRunner;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 스레드들이 함께 쓰는 static 세션 저장소의 동시성 검증
+ */
+class SessionRepositoryConcurrencyTest {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+
+    private final SessionRepository repository = SessionRepository.getInstance();
+
+    @Test
+    void concurrentSavesNeverOverwriteEachOther() throws Exception {
+        int before = repository.size();
+        ConcurrentLinkedQueue<MockHttpSession> saved = new ConcurrentLinkedQueue<>();
+
+        StressRunner.Result result = StressRunner.run(16, 2_000, (thread, i) -> {
+            MockHttpSession session = new MockHttpSession();
+            repository.save(session);
+            saved.add(session);
+        });
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(repository.size()).isEqualTo(before + saved.size());
+
+        StressRunner.Result cleanup = StressRunner.run(16, 2_000, (thread, i) -> repository.deleteSessionBySessionId(saved.remove().getId()));
+        assertThat(cleanup.getFailures()).isEmpty();
+        assertThat(repository.size()).isEqualTo(before);
+    }
+
+    @Test
+    void saveLookupDeleteChurnLeavesNoSessionBehind() throws Exception {
+        int before = repository.size();
+
+        StressRunner.Result result = StressRunner.run(16, 2_000, (thread, i) -> {
+            MockHttpSession session = new MockHttpSession();
+            session.setAttribute("userId", (long) thread);
+            repository.save(session);
+            repository.save(session);      // 같은 세션을 다시 저장해도 항목은 하나
+            repository.findByUserId((long) thread);
+            repository.deleteSessionBySessionId(session.getId());
+        });
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(repository.size()).isEqualTo(before);
+    }
+
+    @Test
+    void throughputAsThreadsScale() throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            int before = repository.size();
+            StressRunner.Result result = StressRunner.run(threads, 20_000, (thread, i) -> {
+                MockHttpSession session = new MockHttpSession();
+                repository.save(session);
+                repository.deleteSessionBySessionId(session.getId());
+            }).print("session save/delete");
+
+            assertThat(result.getFailures()).isEmpty();
+            assertThat(repository.size()).isEqualTo(before);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.study.board.service;
+
+import com.study.board.common.entity.BaseEntity;
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.entity.Board;
+import com.study.board.entity.User;
+import com.study.board.model.board.PostBoardReq;
+import com.study.board.model.user.AuthUser;
+import com.study.board.repository.BoardRepository;
+import com.study.board.repository.UserRepository;
+import com.study.board.support.StressRunner;
+import com.study.board.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 하나를 여러 스레드가 동시에 수정/삭제할 때의 불변식 검증
+ * - 삭제는 정확히 한 번만 성공하고, 삭제된 글은 수정으로 되살아나지 않음
+ * - 작성자는 NO_AUTH 를 받지 않고, 작성자가 아닌 유저는 항상 NO_AUTH 를 받음
+ * 동시에 수정만 할 때는 마지막 내용이 누군가 실제로 쓴 값이어야 함
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = "warmup.enabled=false")
+class BoardServiceConcurrencyTest {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentEditsAndDeletesOfOneBoard() throws Exception {
+        User owner = TestUsers.save(userRepository, "owner");
+        User intruder = TestUsers.save(userRepository, "intruder");
+        Long boardId = board(owner);
+
+        AtomicInteger deleted = new AtomicInteger();
+        AtomicInteger ownerDenied = new AtomicInteger();
+        AtomicInteger intruderAllowed = new AtomicInteger();
+
+        // 스레드 0 ~ 3 은 10번째에 삭제, 4 ~ 7 은 작성자가 아닌 유저, 나머지는 작성자로 수정
+        StressRunner.Result result = StressRunner.run(16, 30, (thread, i) -> {
+            try {
+                if (thread < 4 && i == 10) {
+                    boardService.deleteBoard(AuthUser.of(owner), boardId);
+                    deleted.incrementAndGet();
+                } else if (thread >= 4 && thread < 8) {
+                    boardService.updateBoard(AuthUser.of(intruder), boardId, new PostBoardReq("intruder", "intruder"));
+                    intruderAllowed.incrementAndGet();
+                } else {
+                    boardService.updateBoard(AuthUser.of(owner), boardId, new PostBoardReq("title", "content " + thread + "-" + i));
+                }
+            } catch (BaseException e) {
+                if (e.getStatus() == BaseResponseStatus.NO_AUTH && thread >= 8) {
+                    ownerDenied.incrementAndGet();
+                } else if (e.getStatus() != BaseResponseStatus.NO_AUTH && e.getStatus() != BaseResponseStatus.NON_EXIST_ARTICLE) {
+                    throw e;
+                }
+            } catch (ConcurrencyFailureException e) {
+                // 같은 행을 먼저 바꾼 트랜잭션이 커밋해서 0건 반영 (삭제된 글 수정 / 중복 삭제), 롤백되므로 정상
+            }
+        });
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(deleted.get()).isEqualTo(1);
+        assertThat(ownerDenied.get()).isZero();
+        assertThat(intruderAllowed.get()).isZero();
+        assertThat(boardRepository.findByIdAndState(boardId, BaseEntity.State.ACTIVE)).isEmpty();
+    }
+
+    @Test
+    void concurrentEditsKeepOneWrittenValue() throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            User owner = TestUsers.save(userRepository, "editor");
+            Long boardId = board(owner);
+            Set<String> written = ConcurrentHashMap.newKeySet();
+
+            StressRunner.Result result = StressRunner.run(threads, 50, (thread, i) -> {
+                String content = "content " + thread + "-" + i;
+                written.add(content);
+                try {
+                    boardService.updateBoard(AuthUser.of(owner), boardId, new PostBoardReq("title", content));
+                } catch (ConcurrencyFailureException e) {
+                    // 행 잠금 대기 시간 초과, 롤백되므로 정상
+                }
+            }).print("board edit");
+
+            assertThat(result.getFailures()).isEmpty();
+            Board board = boardRepository.findById(boardId).orElseThrow();
+            assertThat(written).contains(board.getContent());
+        }
+    }
+
+    private Long board(User owner) {
+        return boardRepository.save(Board.builder()
+                .title("title")
+                .content("content")
+                .user(owner)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,89 @@
+package com.study.board.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.board.common.cache.BoardFragmentCache;
+import com.study.board.entity.Board;
+import com.study.board.entity.User;
+import com.study.board.model.board.GetBoardPageRes;
+import com.study.board.repository.BoardRepository;
+import com.study.board.repository.UserRepository;
+import com.study.board.support.MemberSelectCounter;
+import com.study.board.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정규화된 목록(shape=normalized)에서 작성자가 users 에 한 번씩만 들어가는지 확인
+ * 작성자는 member 조회 한 번으로 가져오고, 직렬화된 본문에서 writerId 와 users 의 키가 같은 문자열이어야 함
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = {
+        MemberSelectCounter.PROPERTY,
+        "warmup.enabled=false"})
+class BoardServiceNormalizedListTest {
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardFragmentCache boardFragmentCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void eachWriterAppearsOnceInUsers() throws Exception {
+        User prolific = TestUsers.save(userRepository, "prolific");
+        User occasional = TestUsers.save(userRepository, "rare");
+        for (int i = 0; i < 8; i++) {
+            board(prolific, "prolific " + i);
+        }
+        board(occasional, "rare");
+
+        MemberSelectCounter.reset();
+        GetBoardPageRes page = boardService.viewNormalizedBoards(PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "createdAt")), null);
+        assertThat(MemberSelectCounter.count()).isEqualTo(1);      // 페이지의 작성자 전체를 IN 쿼리 한 번으로
+
+        // 컨트롤러가 내보내는 본문 그대로 확인
+        String json = new String(boardFragmentCache.jsonResponse(page), StandardCharsets.UTF_8);
+        JsonNode result = objectMapper.readTree(json).get("result");
+
+        Set<String> writerIds = new HashSet<>();
+        for (JsonNode board : result.get("boards")) {
+            assertThat(board.get("writerId").isTextual()).isTrue();      // users 의 키와 같은 문자열
+            writerIds.add(board.get("writerId").asText());
+        }
+        Set<String> userKeys = new HashSet<>();
+        result.get("users").fieldNames().forEachRemaining(userKeys::add);
+
+        assertThat(writerIds).contains(String.valueOf(prolific.getId()), String.valueOf(occasional.getId()));
+        assertThat(userKeys).isEqualTo(writerIds);
+        assertThat(json).containsOnlyOnce(prolific.getEmail());        // 글 8개의 작성자지만 한 번만
+        assertThat(json).containsOnlyOnce(occasional.getEmail());
+        assertThat(result.get("users").get(String.valueOf(prolific.getId())).get("email").asText()).isEqualTo(prolific.getEmail());
+    }
+
+    private void board(User writer, String title) {
+        boardRepository.save(Board.builder()
+                .title(title)
+                .content("content")
+                .user(writer)
+                .build());
+    }
+}
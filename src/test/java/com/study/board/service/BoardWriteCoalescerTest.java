@@ -0,0 +1,192 @@
+package com.study.board.service;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.entity.User;
+import com.study.board.repository.UserRepository;
+import com.study.board.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * group commit 검증
+ * - 동시에 들어온 게시글은 한 트랜잭션(배치)으로 저장됨
+ * - 배치 안의 한 행이 실패하면 행마다 다시 저장해서 나머지는 성공함
+ * - timeout 때 아직 배치에 들어가지 않은 게시글은 취소되어 저장되지 않고, 이미 들어간 게시글은 실패로 응답하지 않음
+ * - 이미 들어간 게시글도 commit-timeout 까지만 기다림
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "board.write-coalescing.enabled=true",
+        "board.write-coalescing.window=50ms",
+        "board.write-coalescing.timeout=300ms",
+        "board.write-coalescing.commit-timeout=1500ms",
+        "spring.datasource.hikari.connection-init-sql=SET LOCK_TIMEOUT 10000"})     // 행 잠금을 기다리는 동안 H2가 먼저 실패시키지 않도록
+class BoardWriteCoalescerTest {
+    private static final String TOO_LONG_TITLE = "x".repeat(51);      // boards.title 은 50자까지
+
+    @Autowired
+    private BoardWriteCoalescer coalescer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentWritesShareOneBatch() throws Exception {
+        User writer = TestUsers.save(userRepository, "batch");
+        long batchesBefore = coalescer.getBatches();
+
+        List<CompletableFuture<Long>> results = submitTogether(writer.getId(), 20, i -> "title " + i);
+        List<Long> ids = new ArrayList<>();
+        for (CompletableFuture<Long> result : results) {
+            ids.add(result.get(5, TimeUnit.SECONDS));
+        }
+
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(coalescer.getBatches() - batchesBefore).isBetween(1L, 2L);
+        assertThat(countBoards(writer.getId())).isEqualTo(20);
+        assertThat(jdbcTemplate.queryForObject("SELECT post_count FROM user_post_stats WHERE user_id = ?", Long.class, writer.getId()))
+                .isEqualTo(20L);
+    }
+
+    @Test
+    void failedRowDoesNotFailTheRestOfTheBatch() throws Exception {
+        User writer = TestUsers.save(userRepository, "retry");
+
+        List<CompletableFuture<Long>> results = submitTogether(writer.getId(), 5, i -> i == 2 ? TOO_LONG_TITLE : "title " + i);
+
+        for (int i = 0; i < results.size(); i++) {
+            if (i == 2) {
+                CompletableFuture<Long> failed = results.get(i);
+                assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(BaseException.class);
+            } else {
+                assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isNotNull();
+            }
+        }
+        assertThat(countBoards(writer.getId())).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT post_count FROM user_post_stats WHERE user_id = ?", Long.class, writer.getId()))
+                .isEqualTo(4L);
+    }
+
+    @Test
+    void timedOutQueuedWriteIsNeverSavedAndInFlightWriteWaitsForItsResult() throws Exception {
+        User writer = TestUsers.save(userRepository, "timeout");
+        coalescer.insert(writer.getId(), "first", "content");        // user_post_stats 행 생성
+        long cancelledBefore = coalescer.getCancelled();
+
+        // 작성 수 행을 잠가서 writer 스레드가 다음 배치(inFlight)에서 멈추게 함
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> lockHolder = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE user_post_stats SET post_count = post_count WHERE user_id = ?", writer.getId());
+            locked.countDown();
+            await(release);
+        }), executor);
+        locked.await(5, TimeUnit.SECONDS);
+
+        CompletableFuture<Long> inFlight = CompletableFuture.supplyAsync(
+                () -> coalescer.insert(writer.getId(), "in-flight", "content"), executor);
+        Thread.sleep(150);      // window 가 지나 배치에 들어가고 잠금에서 멈춤
+
+        // writer 스레드가 멈춘 동안 큐에만 있던 게시글은 timeout 에 취소됨
+        assertThatThrownBy(() -> coalescer.insert(writer.getId(), "queued", "content")).isInstanceOf(BaseException.class);
+        assertThat(coalescer.getCancelled() - cancelledBefore).isEqualTo(1);
+        assertThat(inFlight).isNotDone();       // timeout 이 지났지만 실패로 응답하지 않고 기다림
+
+        release.countDown();
+        lockHolder.get(5, TimeUnit.SECONDS);
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isNotNull();
+
+        // 취소된 게시글은 writer 스레드가 나중에 꺼내도 저장하지 않음
+        coalescer.insert(writer.getId(), "after", "content");
+        assertThat(titles(writer.getId())).containsExactlyInAnyOrder("first", "in-flight", "after");
+    }
+
+    @Test
+    void inFlightWriteGivesUpAfterCommitTimeout() throws Exception {
+        User writer = TestUsers.save(userRepository, "commit-timeout");
+        coalescer.insert(writer.getId(), "first", "content");        // user_post_stats 행 생성
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> lockHolder = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE user_post_stats SET post_count = post_count WHERE user_id = ?", writer.getId());
+            locked.countDown();
+            await(release);
+        }), executor);
+        locked.await(5, TimeUnit.SECONDS);
+
+        long started = System.nanoTime();
+        CompletableFuture<Long> inFlight = CompletableFuture.supplyAsync(
+                () -> coalescer.insert(writer.getId(), "in-flight", "content"), executor);
+
+        // 잠금이 풀리지 않아도 commit-timeout 뒤에는 실패로 응답함
+        assertThatThrownBy(() -> inFlight.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(BaseException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(1500);
+
+        release.countDown();
+        lockHolder.get(5, TimeUnit.SECONDS);
+        coalescer.insert(writer.getId(), "after", "content");       // writer 스레드는 계속 동작함
+        assertThat(titles(writer.getId())).contains("first", "after");
+    }
+
+    private List<CompletableFuture<Long>> submitTogether(Long userId, int count, IntFunction<String> title) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Long>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String boardTitle = title.apply(i);
+            results.add(CompletableFuture.supplyAsync(() -> {
+                await(start);
+                return coalescer.insert(userId, boardTitle, "content");
+            }, executor));
+        }
+        start.countDown();
+        return results;
+    }
+
+    private int countBoards(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boards WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private List<String> titles(Long userId) {
+        return jdbcTemplate.queryForList("SELECT title FROM boards WHERE user_id = ?", String.class, userId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.study.board.service;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.common.sharding.ShardedBoardStore;
+import com.study.board.entity.User;
+import com.study.board.model.board.BoardListView;
+import com.study.board.model.board.BoardRow;
+import com.study.board.model.board.PostBoardReq;
+import com.study.board.model.user.AuthUser;
+import com.study.board.repository.UserRepository;
+import com.study.board.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 샤드 모드의 BoardService
+ * - cursor 피드가 지원하지 않는 목록 조건(page 번호, 다른 정렬, 필드 선택)은 무시하지 않고 INVALID_FIELDS
+ * - 샤드에 저장된 뒤 기본 DB(작성 수 / outbox) 기록이 실패해도 저장은 성공으로 응답
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "sharding.enabled=true",
+        "sharding.initialize-schema=true",
+        "sharding.shards[0].url=jdbc:h2:mem:board-service-shard-0;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "sharding.shards[0].username=sa",
+        "sharding.shards[0].password=",
+        "sharding.shards[1].url=jdbc:h2:mem:board-service-shard-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "sharding.shards[1].username=sa",
+        "sharding.shards[1].password="})
+class ShardedBoardServiceTest {
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private ShardedBoardStore shardedBoardStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void unsupportedListParametersAreRejected() {
+        assertInvalidFields(() -> boardService.viewBoards(PageRequest.of(1, 10), null, null));
+        assertInvalidFields(() -> boardService.viewBoards(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt")), null, null));
+        assertInvalidFields(() -> boardService.viewBoards(PageRequest.of(0, 10), BoardListView.of(null, "summary", null, 100), null));
+        assertInvalidFields(() -> boardService.viewNormalizedBoards(PageRequest.of(2, 10), null));
+
+        // 첫 페이지 + 최신순(또는 정렬 없음)은 cursor 피드로 조회
+        assertThat(boardService.viewBoards(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")), null, null)).isNotEmpty();
+        assertThat(boardService.viewBoards(PageRequest.of(0, 10), null, Long.MAX_VALUE)).isNotEmpty();
+    }
+
+    @Test
+    void saveSucceedsWhenStatsWriteFailsAfterShardInsert() {
+        User writer = TestUsers.save(userRepository, "sharded");
+
+        jdbcTemplate.execute("ALTER TABLE user_post_stats RENAME TO user_post_stats_off");     // 작성 수 / outbox 트랜잭션 실패
+        try {
+            boardService.saveBoard(AuthUser.of(writer), new PostBoardReq("title", "content"));
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE user_post_stats_off RENAME TO user_post_stats");
+        }
+
+        assertThat(shardedBoardStore.findByUser(writer.getId(), null, 10))
+                .extracting(BoardRow::getTitle)
+                .containsExactly("title");
+    }
+
+    private static void assertInvalidFields(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getStatus())
+                .isEqualTo(BaseResponseStatus.INVALID_FIELDS);
+    }
+}
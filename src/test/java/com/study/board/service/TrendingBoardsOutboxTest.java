@@ -0,0 +1,65 @@
+package com.study.board.service;
+
+import com.study.board.common.cache.CacheInvalidationPoller;
+import com.study.board.common.trending.TrendingBoards;
+import com.study.board.entity.User;
+import com.study.board.model.board.GetBoardRes;
+import com.study.board.model.board.PostBoardReq;
+import com.study.board.model.user.AuthUser;
+import com.study.board.repository.UserRepository;
+import com.study.board.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이 노드의 작성 / 수정 이벤트를 outbox 에서 다시 읽어도 인기 게시글에서 빠지지 않고, 삭제만 빠지는지 확인
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cache.outbox.poll-interval=3600000",      // 테스트에서 직접 poll() 호출
+        "trending.snapshot-file=build/tmp/trending-outbox-test.json"})
+class TrendingBoardsOutboxTest {
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private TrendingBoards trendingBoards;
+
+    @Autowired
+    private CacheInvalidationPoller poller;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void ownWritesStayTrendingAfterPollAndDeletesDrop() {
+        User writer = TestUsers.save(userRepository, "trending");
+        AuthUser authUser = AuthUser.of(writer);
+        boardService.saveBoard(authUser, new PostBoardReq("trending title", "content"));
+        Long boardId = find("trending title").orElseThrow().getBoardId();
+
+        poller.poll();
+        assertThat(find("trending title")).isPresent();
+
+        boardService.updateBoard(authUser, boardId, new PostBoardReq("edited title", "edited content"));
+        poller.poll();
+        assertThat(find("edited title")).get()
+                .extracting(GetBoardRes::getBoardId, GetBoardRes::getContent)
+                .containsExactly(boardId, "edited content");
+
+        boardService.deleteBoard(authUser, boardId);
+        poller.poll();
+        assertThat(trendingBoards.trending()).extracting(GetBoardRes::getBoardId).doesNotContain(boardId);
+    }
+
+    private Optional<GetBoardRes> find(String title) {
+        return trendingBoards.trending().stream().filter(board -> title.equals(board.getTitle())).findFirst();
+    }
+}
@@ -0,0 +1,48 @@
+package com.study.board.service;
+
+import com.study.board.entity.User;
+import com.study.board.model.user.AuthUser;
+import com.study.board.repository.UserRepository;
+import com.study.board.support.MemberSelectCounter;
+import com.study.board.support.TestUsers;
+import com.study.board.util.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 유저를 트랜잭션마다 다시 읽을 때(요청마다 JwtFilter 의 인증 / 유저 조회) member 테이블을 다시 조회하지 않는지 확인
+ * (트랜잭션 밖에서 호출하므로 findById 마다 새 트랜잭션 / 영속성 컨텍스트, 1차 캐시로는 통과할 수 없음)
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = {
+        MemberSelectCounter.PROPERTY,
+        "warmup.enabled=false"})      // 워밍업의 member 조회가 카운트에 섞이지 않도록
+class UserSecondLevelCacheTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void repeatedLookupsAcrossTransactionsDoNotReselectMember() {
+        User user = TestUsers.save(userRepository, "cache");
+        String token = jwtUtils.generateToken(user.getId(), user.getRole().toString()).get("accessToken");
+
+        // 첫 조회에서 2차 캐시에 적재
+        assertThat(userRepository.findById(user.getId())).isPresent();
+
+        MemberSelectCounter.reset();
+        for (int i = 0; i < 5; i++) {
+            assertThat(userRepository.findById(user.getId())).isPresent();
+            AuthUser authUser = (AuthUser) jwtUtils.getAuthentication(token).getPrincipal();
+            assertThat(authUser.getId()).isEqualTo(user.getId());
+        }
+
+        assertThat(MemberSelectCounter.count()).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+package com.study.board.service;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.entity.User;
+import com.study.board.model.user.SignUpUserReq;
+import com.study.board.repository.UserRepository;
+import com.study.board.support.StressRunner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 회원가입 검증
+ * 같은 이메일은 한 명만 가입되고, 다른 이메일은 모두 서로 다른 id로 가입되어야 함
+ * 이메일 중복이 아닌 제약 위반은 EXIST_EMAIL 로 응답하지 않음
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = "warmup.enabled=false")
+class UserServiceConcurrencyTest {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+    private static final String PASSWORD = "Stress123!";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void sameEmailSignsUpExactlyOnce() throws Exception {
+        String email = "dup-" + UUID.randomUUID().toString().substring(0, 8) + "@board.test";
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        StressRunner.Result result = StressRunner.run(16, 5, (thread, i) -> {
+            try {
+                userService.createUser(new SignUpUserReq("dup", 20, email, PASSWORD));
+                succeeded.incrementAndGet();
+            } catch (BaseException e) {
+                assertThat(e.getStatus()).isEqualTo(BaseResponseStatus.EXIST_EMAIL);
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(16 * 5 - 1);
+        assertThat(userRepository.findAll().stream().filter(user -> email.equals(user.getEmail()))).hasSize(1);
+    }
+
+    @Test
+    void otherConstraintViolationsAreNotReportedAsDuplicateEmail() {
+        String email = "long-" + UUID.randomUUID().toString().substring(0, 8) + "@board.test";
+
+        assertThatThrownBy(() -> userService.createUser(new SignUpUserReq("x".repeat(11), 20, email, PASSWORD)))     // member.name 은 10자까지
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getStatus())
+                .isEqualTo(BaseResponseStatus.DATABASE_INSERT_ERROR);
+        assertThat(userRepository.findByEmail(email)).isEmpty();
+    }
+
+    @Test
+    void distinctEmailsAllSignUpWithDistinctIds() throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            String run = UUID.randomUUID().toString().substring(0, 8);
+            StressRunner.Result result = StressRunner.run(threads, 50, (thread, i) ->
+                    userService.createUser(new SignUpUserReq("u" + thread, 20, run + "-" + thread + "-" + i + "@board.test", PASSWORD)))
+                    .print("signup");
+
+            assertThat(result.getFailures()).isEmpty();
+            List<Long> ids = userRepository.findAll().stream()
+                    .filter(user -> user.getEmail().startsWith(run + "-"))
+                    .map(User::getId)
+                    .collect(Collectors.toList());
+            assertThat(ids).hasSize(threads * 50).doesNotHaveDuplicates();
+        }
+    }
+}
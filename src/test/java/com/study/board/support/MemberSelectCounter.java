@@ -0,0 +1,33 @@
+package com.study.board.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * member 테이블 select 횟수 (2차 캐시 / IN 쿼리 검증용)
+ * 테스트에서 spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록함
+ */
+public class MemberSelectCounter implements StatementInspector {
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.study.board.support.MemberSelectCounter";
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        String lower = sql.toLowerCase();
+        if (lower.startsWith("select") && lower.contains(" from member ")) {
+            COUNT.incrementAndGet();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,94 @@
+package com.study.board.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고경합 스트레스 테스트 도구
+ * 모든 스레드가 준비될 때까지 기다렸다가 동시에 출발시키고, 처리량과 예상하지 못한 예외를 모아서 돌려줌
+ */
+public final class StressRunner {
+    private static final Logger log = LoggerFactory.getLogger(StressRunner.class);
+    private static final long TIMEOUT_SECONDS = 120;
+
+    private StressRunner() {
+    }
+
+    @FunctionalInterface
+    public interface Operation {
+        void run(int thread, int iteration) throws Exception;
+    }
+
+    public static Result run(int threads, int iterationsPerThread, Operation operation) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < iterationsPerThread; i++) {
+                    try {
+                        operation.run(thread, i);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                }
+            });
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        if (!executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+            throw new AssertionError("stress run did not finish in " + TIMEOUT_SECONDS + "s (deadlock?)");
+        }
+        return new Result(threads, (long) threads * iterationsPerThread, System.nanoTime() - begin, new ArrayList<>(failures));
+    }
+
+    public static class Result {
+        private final int threads;
+        private final long operations;
+        private final long nanos;
+        private final List<Throwable> failures;
+
+        Result(int threads, long operations, long nanos, List<Throwable> failures) {
+            this.threads = threads;
+            this.operations = operations;
+            this.nanos = nanos;
+            this.failures = failures;
+        }
+
+        public List<Throwable> getFailures() {
+            return failures;
+        }
+
+        public double getOpsPerSecond() {
+            return operations / (nanos / 1_000_000_000.0);
+        }
+
+        // ex) [session save/delete] threads=8 ops=16000 1234567 ops/s
+        public Result print(String name) {
+            log.info("[{}] threads={} ops={} {} ops/s", name, threads, operations, Math.round(getOpsPerSecond()));
+            return this;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.board.support;
+
+import com.study.board.entity.User;
+import com.study.board.repository.UserRepository;
+
+import java.util.UUID;
+
+/**
+ * 테스트용 유저 저장 (이메일 유니크 제약에 걸리지 않도록 이름 뒤에 임의 값을 붙임)
+ */
+public final class TestUsers {
+    private TestUsers() {
+    }
+
+    public static User save(UserRepository userRepository, String name) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .age(20)
+                .email(name + "-" + UUID.randomUUID().toString().substring(0, 8) + "@board.test")
+                .password("password")
+                .build());
+    }
+}
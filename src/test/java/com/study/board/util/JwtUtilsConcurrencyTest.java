@@ -0,0 +1,52 @@
+package com.study.board.util;
+
+import com.study.board.common.exception.BaseException;
+import com.study.board.common.response.BaseResponseStatus;
+import com.study.board.support.StressRunner;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 모든 요청이 함께 쓰는 JwtUtils 의 토큰 발급/검증이 스레드 간에 섞이지 않는지 검증
+ */
+class JwtUtilsConcurrencyTest {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+
+    // 토큰 발급/검증만 사용하므로 UserRepository 는 필요 없음
+    private final JwtUtils jwtUtils = new JwtUtils(
+            Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded()), null);
+
+    @Test
+    void everyTokenResolvesToItsOwnUser() throws Exception {
+        StressRunner.Result result = StressRunner.run(16, 2_000, (thread, i) -> {
+            long userId = thread * 1_000_000L + i;
+            String accessToken = jwtUtils.generateToken(userId, "ROLE_USER").get("accessToken");
+
+            assertThat(jwtUtils.getUserId(accessToken)).isEqualTo(userId);
+            assertThatThrownBy(() -> jwtUtils.getUserId(accessToken + "x"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("status").isEqualTo(BaseResponseStatus.INVALID_TOKEN);
+        });
+
+        assertThat(result.getFailures()).isEmpty();
+    }
+
+    @Test
+    void throughputAsThreadsScale() throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            StressRunner.Result result = StressRunner.run(threads, 5_000, (thread, i) -> {
+                long userId = thread * 1_000_000L + i;
+                if (jwtUtils.getUserId(jwtUtils.generateToken(userId, "ROLE_USER").get("accessToken")) != userId) {
+                    throw new AssertionError("token resolved to another user");
+                }
+            }).print("jwt issue/verify");
+
+            assertThat(result.getFailures()).isEmpty();
+        }
+    }
+}